@@ -0,0 +1,132 @@
+package bookface.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import bookface.model.book.Author;
+import bookface.model.book.Book;
+import bookface.model.book.Title;
+
+/**
+ * Compares ways of checking every book in a catalogue against the keywords of a {@code find book}: the
+ * regex-splitting matcher that {@code StringUtil#containsPartialWordIgnoreCase} used to be, the in-place matcher
+ * it is now, and matching folded keywords against the folded titles and authors cached on the books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringUtilBenchmark {
+
+    private static final String[] WORDS = {"the", "art", "of", "computer", "programming", "haunted", "house",
+        "introduction", "algorithms", "garden", "river", "winter", "silent", "history", "secret", "Ronald",
+        "Johnson", "Smith", "Tolkien", "Knuth", "Lim", "Chee", "Teck", "Meier", "Kurz"};
+
+    @Param({"1000", "100000"})
+    private int bookCount;
+
+    private List<Book> books;
+    private List<String> keywords;
+    private List<String> foldedKeywords;
+
+    /**
+     * Creates {@code bookCount} books with titles and authors made of random words.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        books = new ArrayList<>();
+        for (int i = 0; i < bookCount; i++) {
+            String title = randomWords(random, 2 + random.nextInt(4)) + " " + i;
+            books.add(new Book(new Title(title), new Author(randomWords(random, 2))));
+        }
+        keywords = Arrays.asList("Haunt", "ALGO", "kin");
+        foldedKeywords = new ArrayList<>();
+        keywords.forEach(keyword -> foldedKeywords.add(StringUtil.foldCase(keyword)));
+    }
+
+    @Benchmark
+    public int regexSplitting() {
+        int matches = 0;
+        for (Book book : books) {
+            for (String keyword : keywords) {
+                if (containsPartialWordBySplitting(book.getTitle().bookTitle, keyword)
+                        || containsPartialWordBySplitting(book.getAuthor().bookAuthor, keyword)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int inPlace() {
+        int matches = 0;
+        for (Book book : books) {
+            for (String keyword : keywords) {
+                if (StringUtil.containsPartialWordIgnoreCase(book.getTitle().bookTitle, keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(book.getAuthor().bookAuthor, keyword)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int cachedFoldedForms() {
+        int matches = 0;
+        for (Book book : books) {
+            for (String foldedKeyword : foldedKeywords) {
+                if (book.getTitle().getFoldedTitle().contains(foldedKeyword)
+                        || book.getAuthor().getFoldedAuthor().contains(foldedKeyword)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < count; i++) {
+            words.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+
+    /**
+     * The implementation of {@code StringUtil#containsPartialWordIgnoreCase} before it matched in place.
+     */
+    private static boolean containsPartialWordBySplitting(String sentence, String word) {
+        String preppedWord = word.trim();
+        AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(sentenceWord -> containsIgnoreCase(sentenceWord, word));
+    }
+
+    private static boolean containsIgnoreCase(String stringToSearchIn, String keyword) {
+        for (int i = stringToSearchIn.length() - keyword.length(); i >= 0; i--) {
+            if (stringToSearchIn.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package bookface.logic.parser;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import bookface.logic.commands.LoanCommand;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing the arguments of {@code loan} with each of the ways of giving a due date: none, an ISO date,
+ * a day/month/year date, a common phrase, which is resolved without PrettyTime, and a phrase that only PrettyTime
+ * resolves.
+ * {@code parse} uses the shared resolver, as the app does, and {@code parseWithNewResolver} a new resolver for every
+ * command, which creates a new PrettyTime parser for every phrase it does not resolve itself, as every {@code loan}
+ * command used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoanCommandParserBenchmark {
+
+    @Param({"3 2", "3 2 2018-08-08", "3 2 31/01/2022", "3 2 tomorrow", "3 2 next friday", "3 2 in 2 weeks",
+        "3 2 two saturdays ago"})
+    private String args;
+
+    private final LoanCommandParser parser = new LoanCommandParser();
+
+    @Benchmark
+    public LoanCommand parse() throws ParseException {
+        return parser.parse(args);
+    }
+
+    @Benchmark
+    public LoanCommand parseWithNewResolver() throws ParseException {
+        return new LoanCommandParser(new ReturnDateResolver(Clock.systemDefaultZone(), 0)).parse(args);
+    }
+}
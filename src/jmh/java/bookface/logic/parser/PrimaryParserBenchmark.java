@@ -0,0 +1,42 @@
+package bookface.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import bookface.logic.commands.Command;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.logic.parser.primary.PrimaryParser;
+
+/**
+ * Measures parsing a typical command of each kind with {@code PrimaryParser}, from the command word down to the
+ * values of its arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimaryParserBenchmark {
+
+    @Param({
+        "add user n/Jenny Brown p/12345678 e/foo@gmail.com t/friends t/colleagues",
+        "add book t/The Life of John a/Emily Dunce",
+        "edit user 1 p/91234567 e/johndoe@example.com",
+        "find book computer programming top/10",
+        "delete book 99",
+        "list books"
+    })
+    private String command;
+
+    private final PrimaryParser parser = new PrimaryParser();
+
+    @Benchmark
+    public Command parse() throws ParseException {
+        return parser.parse(command);
+    }
+}
@@ -0,0 +1,97 @@
+package bookface.model;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import bookface.model.book.Author;
+import bookface.model.book.Book;
+import bookface.model.book.Title;
+import bookface.model.person.Email;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+import bookface.model.person.Phone;
+import bookface.model.util.SampleDataUtil;
+
+/**
+ * Measures the operations of {@code BookList} and {@code UniquePersonList}, through {@code BookFace}, on BookFaces
+ * of {@code bookCount} books and a tenth as many persons. Each operation that changes the BookFace is paired with
+ * the one that undoes it, so that every invocation starts from the same BookFace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookFaceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookCount;
+
+    private ReadOnlyBookFace sample;
+    private BookFace bookFace;
+    private Book newBook;
+    private Person newPerson;
+    private Book lastBook;
+    private Person firstPerson;
+
+    /**
+     * Creates the sample BookFace, and the books and persons to add and look up.
+     */
+    @Setup
+    public void setUp() {
+        sample = SampleDataUtil.getSampleBookFace(bookCount / 10, bookCount);
+        bookFace = new BookFace(sample);
+        newBook = new Book(new Title("Benchmarking Java"), new Author("Aleksey Shipilev"));
+        newPerson = new Person(new Name("Benjamin Mark"), new Phone("61234567"), new Email("benmark@example.com"),
+                new HashSet<>(), new HashSet<>());
+        // the last book is never on loan, as only the first tenth of the books are
+        lastBook = bookFace.getBookList().get(bookCount - 1);
+        firstPerson = bookFace.getPersonList().get(0);
+    }
+
+    @Benchmark
+    public BookFace setBooksAndPersons() {
+        bookFace.setPersons(sample.getPersonList());
+        bookFace.setBooks(sample.getBookList());
+        return bookFace;
+    }
+
+    @Benchmark
+    public boolean hasBook() {
+        return bookFace.hasBook(new Book(lastBook.getTitle(), lastBook.getAuthor()));
+    }
+
+    @Benchmark
+    public boolean hasPerson() {
+        return bookFace.hasPerson(newPerson);
+    }
+
+    @Benchmark
+    public BookFace addAndDeleteBook() {
+        bookFace.addBook(newBook);
+        bookFace.deleteBook(newBook);
+        return bookFace;
+    }
+
+    @Benchmark
+    public BookFace addAndRemovePerson() {
+        bookFace.addPerson(newPerson);
+        bookFace.removePerson(newPerson);
+        return bookFace;
+    }
+
+    @Benchmark
+    public BookFace loanAndReturnBook() {
+        bookFace.loan(firstPerson, lastBook, LocalDate.now());
+        bookFace.returnLoanedBook(lastBook);
+        return bookFace;
+    }
+}
@@ -0,0 +1,80 @@
+package bookface.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import bookface.commons.util.StringUtil;
+import bookface.model.book.Book;
+import bookface.model.util.SampleDataUtil;
+
+/**
+ * Measures {@code find book} and {@code find user} on BookFaces of {@code bookCount} books and a tenth as many
+ * persons: testing the predicate that the find parsers create against every book, and answering the find from the
+ * model's indexes as the find commands do, unranked, ranked and with a fuzzy keyword.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark {
+
+    private static final List<String> BOOK_KEYWORDS = Arrays.asList("haunt", "ALGO", "Balakrishnan");
+    private static final List<String> FUZZY_BOOK_KEYWORDS = Arrays.asList("~hauntd", "~balakrishnen");
+    private static final List<String> PERSON_KEYWORDS = Arrays.asList("bernice", "Kumar");
+    private static final int RESULT_LIMIT = 10;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookCount;
+
+    private ModelManager model;
+    private ObjectContainsKeywordsPredicate<Book, String> bookPredicate;
+
+    /**
+     * Creates the model of the sample BookFace, and a predicate like the one {@code find book} creates.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SampleDataUtil.getSampleBookFace(bookCount / 10, bookCount), new UserPrefs());
+        bookPredicate = new ObjectContainsKeywordsPredicate<>(BOOK_KEYWORDS,
+                book -> keyword -> StringUtil.containsPartialWordIgnoreCase(book.getTitle().toString(), keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(book.getAuthor().toString(), keyword));
+    }
+
+    @Benchmark
+    public long bookPredicate() {
+        return model.getBookFace().getBookList().stream().filter(bookPredicate).count();
+    }
+
+    @Benchmark
+    public int findBooks() {
+        model.findBooks(BOOK_KEYWORDS);
+        return model.getFilteredBookList().size();
+    }
+
+    @Benchmark
+    public int findBooksRanked() {
+        model.findBooks(BOOK_KEYWORDS, RESULT_LIMIT);
+        return model.getFilteredBookList().size();
+    }
+
+    @Benchmark
+    public int findBooksFuzzy() {
+        model.findBooks(FUZZY_BOOK_KEYWORDS, RESULT_LIMIT);
+        return model.getFilteredBookList().size();
+    }
+
+    @Benchmark
+    public int findPersons() {
+        model.findPersons(PERSON_KEYWORDS);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,82 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.util.SampleDataUtil;
+
+/**
+ * Compares loading and saving the same BookFace of {@code bookCount} books and a fifth as many persons in the json
+ * and binary formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BookFaceFormatBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"1000", "10000", "100000"})
+    private int bookCount;
+
+    private Path directory;
+    private ReadOnlyBookFace bookFace;
+    private BookFaceStorage loadStorage;
+    private BookFaceStorage saveStorage;
+
+    /**
+     * Saves the sample BookFace to a file to load in {@code format}, in a new temporary directory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("bookface-benchmark");
+        bookFace = SampleDataUtil.getSampleBookFace(bookCount / 5, bookCount);
+        loadStorage = createStorage(directory.resolve("load." + format));
+        loadStorage.saveBookFace(bookFace);
+        saveStorage = createStorage(directory.resolve("save." + format));
+    }
+
+    private BookFaceStorage createStorage(Path filePath) {
+        return format.equals("binary") ? new BinaryBookFaceStorage(filePath, 0) : new JsonBookFaceStorage(filePath, 0);
+    }
+
+    /**
+     * Deletes the temporary directory and the files in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Iterator<Path> file = files.iterator(); file.hasNext();) {
+                Files.delete(file.next());
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyBookFace load() throws DataConversionException, IOException {
+        return loadStorage.readBookFace().orElseThrow();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveBookFace(bookFace);
+    }
+}
@@ -0,0 +1,75 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.util.SampleDataUtil;
+
+/**
+ * Measures loading and saving BookFaces of {@code bookCount} books and a tenth as many persons as JSON files, as
+ * BookFace does on startup and after every command that changes it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonBookFaceStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookCount;
+
+    private Path directory;
+    private ReadOnlyBookFace bookFace;
+    private JsonBookFaceStorage loadStorage;
+    private JsonBookFaceStorage saveStorage;
+
+    /**
+     * Saves the sample BookFace to a file to load, in a new temporary directory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("bookface-benchmark");
+        bookFace = SampleDataUtil.getSampleBookFace(bookCount / 10, bookCount);
+        loadStorage = new JsonBookFaceStorage(directory.resolve("load.json"), 0);
+        loadStorage.saveBookFace(bookFace);
+        saveStorage = new JsonBookFaceStorage(directory.resolve("save.json"), 0);
+    }
+
+    /**
+     * Deletes the temporary directory and the files in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Iterator<Path> file = files.iterator(); file.hasNext();) {
+                Files.delete(file.next());
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyBookFace load() throws DataConversionException {
+        return loadStorage.readBookFace().orElseThrow();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveBookFace(bookFace);
+    }
+}
@@ -2,7 +2,9 @@ package bookface;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import bookface.commons.core.Config;
@@ -13,22 +15,28 @@ import bookface.commons.util.ConfigUtil;
 import bookface.commons.util.StringUtil;
 import bookface.logic.Logic;
 import bookface.logic.LogicManager;
+import bookface.logic.parser.ReturnDateResolver;
 import bookface.model.BookFace;
 import bookface.model.Model;
 import bookface.model.ModelManager;
+import bookface.model.OverdueSweeper;
 import bookface.model.ReadOnlyBookFace;
-import bookface.model.ReadOnlyUserPrefs;
 import bookface.model.UserPrefs;
 import bookface.model.util.SampleDataUtil;
+import bookface.storage.AsyncStorage;
+import bookface.storage.BookFaceFileConverter;
 import bookface.storage.BookFaceStorage;
+import bookface.storage.JournaledBookFaceStorage;
 import bookface.storage.JsonBookFaceStorage;
 import bookface.storage.JsonUserPrefsStorage;
+import bookface.storage.OverdueReportWriter;
 import bookface.storage.Storage;
 import bookface.storage.StorageManager;
 import bookface.storage.UserPrefsStorage;
 import bookface.ui.Ui;
 import bookface.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -38,6 +46,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, false);
 
+    /** The file name of the report of overdue books, which is kept next to the data file. */
+    public static final String OVERDUE_REPORT_FILE_NAME = "overdue.csv";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,35 +56,62 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected OverdueSweeper overdueSweeper;
+
+    private long initStartNanos;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing BookFace ]===========================");
+        initStartNanos = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        long phaseStartNanos = logPhaseTime("config", initStartNanos);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        BookFaceStorage bookFaceStorage = new JsonBookFaceStorage(userPrefs.getBookFaceFilePath());
+        phaseStartNanos = logPhaseTime("prefs", phaseStartNanos);
+
+        BookFaceStorage bookFaceStorage = BookFaceFileConverter.createStorage(userPrefs.getDataFormat(),
+                userPrefs.getBookFaceFilePath());
+        if (userPrefs.isJournalEnabled()) {
+            bookFaceStorage = new JournaledBookFaceStorage(bookFaceStorage);
+        }
         storage = new StorageManager(bookFaceStorage, userPrefsStorage);
+        if (!userPrefs.isJournalEnabled()) {
+            // journal appends are already small, and rely on seeing the live model rather than a snapshot
+            // failed background saves are shown in the status bar, so the listeners are notified on the UI thread
+            storage = new AsyncStorage(storage, Platform::runLater);
+        }
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        ReadOnlyBookFace initialData = readInitialData(storage);
+        phaseStartNanos = logPhaseTime("storage read", phaseStartNanos);
 
-        logic = new LogicManager(model, storage);
+        Clock clock = Clock.systemDefaultZone();
+        model = new ModelManager(initialData, userPrefs, clock);
+        logPhaseTime("model build", phaseStartNanos);
 
+        // sweeps touch the model, so they run on the JavaFX application thread like the commands
+        overdueSweeper = new OverdueSweeper(model, clock, Platform::runLater);
+        overdueSweeper.addListener(new OverdueReportWriter(
+                userPrefs.getBookFaceFilePath().resolveSibling(OVERDUE_REPORT_FILE_NAME)));
+
+        logic = new LogicManager(model, storage, overdueSweeper);
+
+        startWarmUp();
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s BookFace and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s BookFace. <br>
      * The data from the sample BookFace will be used instead if {@code storage}'s BookFace is not found,
      * or an empty BookFace will be used instead if errors occur when reading {@code storage}'s BookFace.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyBookFace readInitialData(Storage storage) {
         Optional<ReadOnlyBookFace> bookFaceOptional;
         ReadOnlyBookFace initialData;
         try {
@@ -89,8 +127,41 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty BookFace");
             initialData = new BookFace();
         }
+        return initialData;
+    }
+
+    /**
+     * Starts loading the components that are slow the first time they are used, PrettyTime for the due dates of
+     * {@code loan} and Jackson for saving the data file, on a background thread while the UI is being built.
+     * They are only ever used by the commands, so nothing waits for the warm-up to finish.
+     */
+    private void startWarmUp() {
+        Thread warmUpThread = new Thread(() -> {
+            long startNanos = System.nanoTime();
+            try {
+                ReturnDateResolver.getDefault().warmUp();
+                JsonBookFaceStorage.warmUp(SampleDataUtil.getSampleBookFace());
+            } catch (IOException | RuntimeException e) {
+                // the components are loaded on first use instead, so a failed warm-up only costs time
+                logger.warning("Warm-up failed: " + StringUtil.getDetails(e));
+                return;
+            }
+            logger.info(String.format("Warm-up took %d ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        }, "BookFace warm-up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Logs how long the startup phase {@code phase}, which started at {@code startNanos}, took, and returns the
+     * time it ended at, which the next phase starts at.
+     */
+    private static long logPhaseTime(String phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        logger.info(String.format("Startup phase %s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos)));
+        return endNanos;
     }
 
     private void initLogging(Config config) {
@@ -168,16 +239,27 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting BookFace " + MainApp.VERSION);
+        long uiStartNanos = System.nanoTime();
         ui.start(primaryStage);
+        logPhaseTime("ui", uiStartNanos);
+        logger.info(String.format("BookFace started in %d ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos)));
+        overdueSweeper.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping BookFace ] =============================");
+        overdueSweeper.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
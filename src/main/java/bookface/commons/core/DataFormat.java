@@ -0,0 +1,11 @@
+package bookface.commons.core;
+
+/**
+ * The file formats that BookFace data can be saved in.
+ */
+public enum DataFormat {
+    /** Human-readable json. */
+    JSON,
+    /** Compact binary format, faster to load and save than json. */
+    BINARY
+}
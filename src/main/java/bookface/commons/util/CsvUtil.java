@@ -0,0 +1,105 @@
+package bookface.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes single rows of comma-separated values, as described by RFC 4180.
+ * Fields that contain a comma or a double quote are enclosed in double quotes, with each double quote doubled.
+ * A row is always a single line, so fields cannot contain line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed by a double quote.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text before the next comma.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code row} into its fields, removing the quotes around quoted fields.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by more than a comma.
+     */
+    public static List<String> parseRow(String row) {
+        requireNonNull(row);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < row.length() && row.charAt(i) == QUOTE) {
+                i = readQuotedField(row, i + 1, field);
+                if (i < row.length() && row.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = row.indexOf(SEPARATOR, i);
+                end = end == -1 ? row.length() : end;
+                field.append(row, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= row.length()) {
+                return fields;
+            }
+            i++; // the separator
+        }
+    }
+
+    /**
+     * Returns {@code fields} as a row, quoting the fields that need it.
+     */
+    public static String formatRow(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                row.append(SEPARATOR);
+            }
+            appendField(row, fields.get(i));
+        }
+        return row.toString();
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}.
+     *
+     * @return the position just after the closing quote.
+     */
+    private static int readQuotedField(String row, int start, StringBuilder field) {
+        int i = start;
+        while (i < row.length()) {
+            char c = row.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < row.length() && row.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    private static void appendField(StringBuilder row, String field) {
+        if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1) {
+            row.append(field);
+            return;
+        }
+        row.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                row.append(QUOTE);
+            }
+            row.append(c);
+        }
+        row.append(QUOTE);
+    }
+}
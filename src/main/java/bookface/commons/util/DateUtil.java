@@ -0,0 +1,60 @@
+package bookface.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * A container for date-specific utility functions.
+ * Dates are {@code LocalDate}s, and are formatted and parsed with a single {@code DateTimeFormatter}, which is
+ * immutable and so can be shared by every thread without allocating a formatter per use.
+ */
+public class DateUtil {
+    /**
+     * The format of dates in storage and messages, e.g. 2022-10-25. Invalid dates, such as 2022-02-30, are rejected.
+     */
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * The number of days a book is loaned for if no return date is given.
+     */
+    public static final int DEFAULT_LOAN_DAYS = 14;
+
+    /**
+     * Returns the date fourteen days from today.
+     */
+    public static LocalDate getFourteenDaysLaterDate() {
+        return LocalDate.now().plusDays(DEFAULT_LOAN_DAYS);
+    }
+
+    /**
+     * Returns {@code date} in the {@link #DATE_FORMAT}.
+     */
+    public static String format(LocalDate date) {
+        requireNonNull(date);
+        return DATE_FORMAT.format(date);
+    }
+
+    /**
+     * Parses {@code text} in the {@link #DATE_FORMAT} into a date.
+     *
+     * @throws DateTimeParseException if {@code text} is not a valid date in the format.
+     */
+    public static LocalDate parse(String text) {
+        requireNonNull(text);
+        return LocalDate.parse(text, DATE_FORMAT);
+    }
+
+    /**
+     * Returns the day that {@code date}, such as one from a library that still uses {@code java.util.Date}, falls on
+     * in the system time zone.
+     */
+    public static LocalDate toLocalDate(Date date) {
+        requireNonNull(date);
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -1,10 +1,15 @@
 package bookface.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +80,85 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing the whole file in one step so that a crash never leaves it
+     * half-written. The content is written to a temporary file in the same directory and forced to the disk
+     * first, then the temporary file is moved over {@code file}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, in the same way as {@link #writeToFile(Path, String)}.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the location of the {@code generation}-th newest backup of {@code file}, starting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        assert generation > 0;
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Keeps the current content of {@code file} as its newest backup, and shifts the older backups back by one
+     * generation, so that at most {@code backupCount} backups are kept.
+     * Does nothing if {@code file} does not exist.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation > 0; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // file is only ever replaced by a move, never rewritten in place, so a hard link is as good as a copy
+        Path newestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file, and forces it to the disk before returning, as
+     * {@link #writeToFile(Path, String)} does.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
     }
 
 }
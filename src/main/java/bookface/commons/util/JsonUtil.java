@@ -2,6 +2,7 @@ package bookface.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +95,45 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming {@code JsonParser} over the given file, which must exist.
+     * The caller is responsible for closing the parser, which also closes the file.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a streaming {@code JsonGenerator} that writes pretty-printed JSON to the given file, replacing it if it
+     * exists. The caller is responsible for closing the generator, which also closes the file.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)))
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes {@code value} as the next JSON value of {@code generator}, without flushing the generator.
+     */
+    public static <T> void writeValue(JsonGenerator generator, T value) throws IOException {
+        objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValue(generator, value);
+    }
+
+    /**
+     * Reads the JSON value at the current token of {@code parser} into an instance of a class,
+     * leaving the parser at the last token of that value.
+     * @return The instance of T, or null if the current token is a JSON null.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +153,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation,
+     * suitable for line-oriented files.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
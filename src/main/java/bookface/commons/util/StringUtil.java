@@ -54,15 +54,64 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter"
-                + "should be a single word");
+        checkSingleWord(word);
+        // the word has no whitespace, so any match in the sentence lies within one of its words; this scans the
+        // sentence in place instead of splitting it, as it is called for every item that a search looks at
+        return !containsWhitespace(word) && containsIgnoreCase(sentence, word);
+    }
 
-        String[] wordsInPreppedSentence = sentence.split("\\s+");
+    /**
+     * Folds the case of every character of {@code text}, such that two characters fold to the same character
+     * exactly when {@link String#regionMatches(boolean, int, String, int, int)} ignoring case considers them equal.
+     * Folded text contains a folded keyword exactly when the original text contains the keyword ignoring case, so
+     * a search can fold its keywords once and then use {@link String#contains(CharSequence)} on folded text.
+     * The result depends only on {@code text}, so values that cache it lazily in a plain field, such as {@code Title},
+     * may race to compute it without synchronization, like {@link String#hashCode()}: every thread that computes it
+     * computes an equal string.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(keyword -> containsIgnoreCase(keyword, word));
+    /**
+     * Checks that {@code word} is a single word, without allocating like {@code String#split} would.
+     *
+     * @throws IllegalArgumentException if {@code word} is empty or has whitespace within it after trimming.
+     */
+    private static void checkSingleWord(String word) {
+        int start = 0;
+        int end = word.length();
+        while (start < end && word.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && word.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        AppUtil.checkArgument(start < end, "Word parameter cannot be empty");
+        for (int i = start; i < end; i++) {
+            AppUtil.checkArgument(!isWhitespace(word.charAt(i)), "Word parameter should be a single word");
+        }
+    }
+
+    private static boolean containsWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isWhitespace(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     //@@author parth-io-reused
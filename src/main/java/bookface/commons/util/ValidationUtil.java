@@ -0,0 +1,53 @@
+package bookface.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Hand-written validators for strings, for the value classes of the model to validate their strings without matching
+ * a regular expression. They never backtrack and never allocate, so validating is cheap enough for bulk loads.
+ * Like the character classes of regular expressions, they only accept ASCII letters, digits and punctuation.
+ */
+public class ValidationUtil {
+
+    private static final String PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is ASCII punctuation, as matched by {@code \p{Punct}}.
+     */
+    public static boolean isPunctuation(int c) {
+        return c < 128 && PUNCTUATION.indexOf(c) >= 0;
+    }
+
+    /**
+     * Returns true if {@code test} is not empty, its first character satisfies {@code first}, and every other
+     * character satisfies {@code rest}, like matching the regular expression {@code [first][rest]*}.
+     */
+    public static boolean matches(String test, IntPredicate first, IntPredicate rest) {
+        requireNonNull(test);
+        if (test.isEmpty() || !first.test(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (!rest.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
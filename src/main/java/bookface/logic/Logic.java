@@ -1,15 +1,18 @@
 package bookface.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import bookface.commons.core.GuiSettings;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.model.Model;
+import bookface.model.OverdueListener;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.book.Book;
 import bookface.model.person.Person;
+import bookface.storage.SaveListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -25,6 +28,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as one command, which either applies all of them or none, and returns the result.
+     * All of the commands are parsed before any of them is executed, and the data is saved once at the end.
+     * @param commandTexts The commands, one per element. Blank ones and ones starting with # are skipped.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during the parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the BookFace.
      *
@@ -38,6 +51,22 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of books */
     ObservableList<Book> getFilteredBookList();
 
+    /**
+     * Returns the number of books on loan that are overdue.
+     */
+    int getOverdueBookCount();
+
+    /**
+     * Registers {@code listener} to be notified, on the UI thread, as books become overdue and as the number of
+     * overdue books changes.
+     */
+    void addOverdueListener(OverdueListener listener);
+
+    /**
+     * Registers {@code listener} to be notified, on the UI thread, of the outcome of saves written in the background.
+     */
+    void addSaveListener(SaveListener listener);
+
     /**
      * Returns the user prefs' BookFace file path.
      */
@@ -2,19 +2,26 @@ package bookface.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
 import java.util.logging.Logger;
 
 import bookface.commons.core.GuiSettings;
 import bookface.commons.core.LogsCenter;
 import bookface.logic.commands.Command;
 import bookface.logic.commands.CommandResult;
+import bookface.logic.commands.RunCommand;
 import bookface.logic.commands.exceptions.CommandException;
+import bookface.logic.parser.RunCommandParser;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.logic.parser.primary.PrimaryParser;
 import bookface.model.Model;
+import bookface.model.OverdueListener;
+import bookface.model.OverdueSweeper;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.book.Book;
 import bookface.model.person.Person;
+import bookface.storage.SaveListener;
 import bookface.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -28,13 +35,24 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final PrimaryParser primaryParser;
+    private final OverdueSweeper overdueSweeper;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which only finds overdue
+     * books when their loans change.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new OverdueSweeper(model, Clock.systemDefaultZone(), Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which tells the UI about
+     * overdue books through {@code overdueSweeper}.
+     */
+    public LogicManager(Model model, Storage storage, OverdueSweeper overdueSweeper) {
         this.model = model;
         this.storage = storage;
+        this.overdueSweeper = overdueSweeper;
         primaryParser = new PrimaryParser();
     }
 
@@ -42,9 +60,35 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        return executeCommand(primaryParser.parse(commandText), commandText);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+
+        return executeCommand(RunCommandParser.parseLines(commandTexts), RunCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Executes {@code command}, parsed from {@code commandText}, and saves the data if it changed.
+     */
+    private CommandResult executeCommand(Command command, String commandText) throws CommandException {
         CommandResult commandResult;
-        Command command = primaryParser.parse(commandText);
-        commandResult = command.execute(model);
+        long versionBeforeCommand = model.getBookFaceVersion();
+        // a command may refresh many persons and books, e.g. editing a user with many loans; the UI gets them at once
+        model.beginBatch();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.endBatch();
+        }
+
+        boolean isModelChanged = model.getBookFaceVersion() != versionBeforeCommand;
+        assert !command.isReadOnly() || !isModelChanged : "Read-only command changed the model: " + commandText;
+        if (command.isReadOnly() || !isModelChanged) {
+            return commandResult;
+        }
 
         try {
             storage.saveBookFace(model.getBookFace());
@@ -70,6 +114,21 @@ public class LogicManager implements Logic {
         return model.getFilteredBookList();
     }
 
+    @Override
+    public int getOverdueBookCount() {
+        return overdueSweeper.getOverdueBookCount();
+    }
+
+    @Override
+    public void addOverdueListener(OverdueListener listener) {
+        overdueSweeper.addListener(listener);
+    }
+
+    @Override
+    public void addSaveListener(SaveListener listener) {
+        storage.addSaveListener(listener);
+    }
+
     @Override
     public Path getBookFaceFilePath() {
         return model.getBookFaceFilePath();
@@ -18,6 +18,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command never changes the data in the model, in which case the data does not
+     * need to be saved afterwards. Commands that only change what is displayed count as read-only.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Generates an usage message.
      * @param commandName the name of the command
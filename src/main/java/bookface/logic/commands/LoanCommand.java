@@ -2,14 +2,12 @@ package bookface.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.Format;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import bookface.commons.core.Messages;
 import bookface.commons.core.index.Index;
+import bookface.commons.util.DateUtil;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.Model;
 import bookface.model.book.Book;
@@ -35,21 +33,17 @@ public class LoanCommand extends Command {
 
     private final Index targetBookIndex;
 
-    private final Date returnDate;
-
-    private final String parsedDate;
-
+    private final LocalDate returnDate;
 
     /**
      * Creates an LoanCommand to loan to a specified {@code Person} from the specified {@code Book} with the specified
      * return date {@code returnDate}.
      */
-    public LoanCommand(Index userIndex, Index bookIndex, Date returnDate) {
+    public LoanCommand(Index userIndex, Index bookIndex, LocalDate returnDate) {
+        requireNonNull(returnDate);
         this.targetUserIndex = userIndex;
         this.targetBookIndex = bookIndex;
         this.returnDate = returnDate;
-        Format formatter = new SimpleDateFormat("yyyy-MM-dd");
-        this.parsedDate = formatter.format(returnDate);
     }
 
     /**
@@ -57,13 +51,7 @@ public class LoanCommand extends Command {
      * date is set to 14 days later.
      */
     public LoanCommand(Index userIndex, Index bookIndex) {
-        this.targetUserIndex = userIndex;
-        this.targetBookIndex = bookIndex;
-        // @@author sprintaway-reused
-        // Reused from https://stackoverflow.com/questions/12087419/adding-days-to-a-date-in-java
-        this.returnDate = new Date(new Date().getTime() + TimeUnit.DAYS.toMillis(14));
-        Format formatter = new SimpleDateFormat("yyyy-MM-dd");
-        this.parsedDate = formatter.format(returnDate);
+        this(userIndex, bookIndex, DateUtil.getFourteenDaysLaterDate());
     }
 
     @Override
@@ -91,7 +79,7 @@ public class LoanCommand extends Command {
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredBookList(Model.PREDICATE_SHOW_ALL_BOOKS);
         return new CommandResult(String.format(MESSAGE_LOAN_SUCCESS, personToLoan.getName(),
-                bookToLoan.getTitle(), parsedDate));
+                bookToLoan.getTitle(), DateUtil.format(returnDate)));
     }
 
     @Override
@@ -100,7 +88,7 @@ public class LoanCommand extends Command {
                 || (other instanceof LoanCommand // instanceof handles nulls
                 && targetUserIndex.equals(((LoanCommand) other).targetUserIndex)
                 && targetBookIndex.equals(((LoanCommand) other).targetBookIndex)
-                && parsedDate.equals(((LoanCommand) other).parsedDate));
+                && returnDate.equals(((LoanCommand) other).returnDate));
     }
 }
 
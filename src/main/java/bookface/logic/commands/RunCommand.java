@@ -0,0 +1,78 @@
+package bookface.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import bookface.logic.commands.exceptions.CommandException;
+import bookface.model.Model;
+import bookface.model.ModelManager;
+
+/**
+ * Runs a batch of commands as one unit: either all of them change BookFace, or none do.
+ * The commands run on a copy of BookFace that starts with all users and books listed, and the copy replaces
+ * BookFace only after the last command succeeds, so the displayed lists are refreshed and the data saved only once.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, "Runs the commands in a "
+            + "file, one per line, as a single command. If any of them fails, none of them take effect",
+            "FILE", COMMAND_WORD + " nightly.txt");
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\nNo commands were run.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a RunCommand to run {@code commands}, which were read from the lines at {@code lineNumbers}.
+     */
+    public RunCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireNonNull(commands);
+        requireNonNull(lineNumbers);
+        assert commands.size() == lineNumbers.size();
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Model scratchModel = ModelManager.ofDeepCopy(model.getBookFace(), model.getUserPrefs(),
+                model.getClock());
+        long versionBeforeCommands = scratchModel.getBookFaceVersion();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(scratchModel);
+            } catch (CommandException ce) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumbers.get(i), ce.getMessage()),
+                        ce);
+            }
+        }
+
+        if (scratchModel.getBookFaceVersion() != versionBeforeCommands) {
+            model.setBookFace(scratchModel.getBookFace());
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            model.updateFilteredBookList(Model.PREDICATE_SHOW_ALL_BOOKS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return commands.stream().allMatch(Command::isReadOnly);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && commands.equals(((RunCommand) other).commands)
+                && lineNumbers.equals(((RunCommand) other).lineNumbers));
+    }
+}
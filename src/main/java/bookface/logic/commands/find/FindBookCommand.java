@@ -2,12 +2,13 @@ package bookface.logic.commands.find;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
 import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.Model;
-import bookface.model.ObjectContainsKeywordsPredicate;
-import bookface.model.book.Book;
 
 /**
  * Finds a book from the book list.
@@ -18,16 +19,30 @@ public class FindBookCommand extends FindCommand {
     public static final String MESSAGE_USAGE = FindCommand.generateMessage(COMMAND_WORD,
             COMMAND_WORD + " The Haunted House");
 
-    private final ObjectContainsKeywordsPredicate<Book, String> predicate;
+    private final List<String> keywords;
+    private final Optional<Integer> resultLimit;
+
+    public FindBookCommand(List<String> keywords) {
+        this(keywords, Optional.empty());
+    }
 
-    public FindBookCommand(ObjectContainsKeywordsPredicate<Book, String> predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FindBookCommand that lists only the {@code resultLimit} best matches, most relevant first,
+     * if {@code resultLimit} is present.
+     */
+    public FindBookCommand(List<String> keywords, Optional<Integer> resultLimit) {
+        this.keywords = List.copyOf(keywords);
+        this.resultLimit = resultLimit;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredBookList(predicate);
+        if (resultLimit.isPresent()) {
+            model.findBooks(keywords, resultLimit.get());
+        } else {
+            model.findBooks(keywords);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, model.getFilteredBookList().size()));
     }
@@ -36,6 +51,7 @@ public class FindBookCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindBookCommand // instanceof handles nulls
-                && predicate.equals(((FindBookCommand) other).predicate)); // state check
+                && keywords.equals(((FindBookCommand) other).keywords) // state check
+                && resultLimit.equals(((FindBookCommand) other).resultLimit));
     }
 }
@@ -12,7 +12,8 @@ public abstract class FindCommand extends Command {
 
     private static final String FIND_DESCRIPTION = "Finds a %s which contain any of the specified keywords "
             + "(case-insensitive) and displays them as a "
-            + "list with index numbers";
+            + "list with index numbers. Prefix a keyword with ~ to also find words within a typo or two of it, "
+            + "closest first. With top/COUNT, only the COUNT best matches are listed, most relevant first";
 
     public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, String.format(FIND_DESCRIPTION,
                     "user or book"), COMMAND_WORD + " user john");
@@ -25,7 +26,12 @@ public abstract class FindCommand extends Command {
      */
     public static String generateMessage(String commandName, String commandExample) {
         return Command.generateMessage(COMMAND_WORD + " " + commandName,
-                String.format(FIND_DESCRIPTION, commandName), "KEYWORD [KEYWORD]...",
+                String.format(FIND_DESCRIPTION, commandName), "KEYWORD [KEYWORD]... [top/COUNT]",
                 COMMAND_WORD + " " + commandExample);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
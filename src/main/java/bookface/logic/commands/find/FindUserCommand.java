@@ -2,12 +2,13 @@ package bookface.logic.commands.find;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
 import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.Model;
-import bookface.model.ObjectContainsKeywordsPredicate;
-import bookface.model.person.Person;
 
 /**
  * Finds a user from the user list.
@@ -19,16 +20,30 @@ public class FindUserCommand extends FindCommand {
     public static final String MESSAGE_USAGE = FindCommand.generateMessage(COMMAND_WORD,
             COMMAND_WORD + " alice bob");
 
-    private final ObjectContainsKeywordsPredicate<Person, String> predicate;
+    private final List<String> keywords;
+    private final Optional<Integer> resultLimit;
+
+    public FindUserCommand(List<String> keywords) {
+        this(keywords, Optional.empty());
+    }
 
-    public FindUserCommand(ObjectContainsKeywordsPredicate<Person, String> predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FindUserCommand that lists only the {@code resultLimit} best matches, most relevant first,
+     * if {@code resultLimit} is present.
+     */
+    public FindUserCommand(List<String> keywords, Optional<Integer> resultLimit) {
+        this.keywords = List.copyOf(keywords);
+        this.resultLimit = resultLimit;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (resultLimit.isPresent()) {
+            model.findPersons(keywords, resultLimit.get());
+        } else {
+            model.findPersons(keywords);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -37,6 +52,7 @@ public class FindUserCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindUserCommand // instanceof handles nulls
-                && predicate.equals(((FindUserCommand) other).predicate)); // state check
+                && keywords.equals(((FindUserCommand) other).keywords) // state check
+                && resultLimit.equals(((FindUserCommand) other).resultLimit));
     }
 }
@@ -1,6 +1,15 @@
 package bookface.logic.commands.list;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import bookface.logic.commands.Command;
+import bookface.model.Model;
+import bookface.model.book.Book;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
 
 /**
  * Lists all users in the user list to the user.
@@ -10,7 +19,7 @@ public abstract class ListCommand extends Command {
     public static final String COMMAND_WORD = "list";
 
     public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, "Lists "
-            + "users, books, loans, overdue books, or all records", COMMAND_WORD + " users");
+            + "users, books, loans, overdue books, books due soon, or all records", COMMAND_WORD + " users");
 
     /**
      * Generates an usage message.
@@ -21,4 +30,23 @@ public abstract class ListCommand extends Command {
         return Command.generateMessage(COMMAND_WORD + " " + commandName, "List "
                 + commandName, COMMAND_WORD + " " + commandName);
     }
+
+    /**
+     * Updates the filtered lists of {@code model} to show only {@code loanedBooks} and the users who loaned them.
+     * A book or user stops matching once the book is returned, as with {@code Model#PREDICATE_ALL_LOANED_BOOKS}.
+     */
+    protected static void showLoans(Model model, List<Book> loanedBooks) {
+        Set<Book> books = new HashSet<>(loanedBooks);
+        Set<Name> loanees = loanedBooks.stream()
+                .flatMap(book -> book.getLoanee().stream())
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredBookList(book -> book.isLoaned() && books.contains(book));
+        model.updateFilteredPersonList(person -> person.hasBooksOnLoan() && loanees.contains(person.getName()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,46 @@
+package bookface.logic.commands.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import bookface.logic.commands.Command;
+import bookface.logic.commands.CommandResult;
+import bookface.model.Model;
+import bookface.model.book.Book;
+
+/**
+ * Lists the books on loan that are due within the next given number of days, and the users who loaned them.
+ */
+public class ListDueCommand extends ListCommand {
+    public static final String COMMAND_WORD = "due";
+    public static final String MESSAGE_USAGE = Command.generateMessage(ListCommand.COMMAND_WORD + " " + COMMAND_WORD,
+            "Lists the books due within the next DAYS days that are not yet overdue", "DAYS",
+            ListCommand.COMMAND_WORD + " " + COMMAND_WORD + " 7");
+    public static final String MESSAGE_SUCCESS = "Listed all %1$d books due within %2$d days and the users who "
+            + "loaned them";
+
+    private final int days;
+
+    /**
+     * Creates a ListDueCommand to list the books due within the next {@code days} days.
+     */
+    public ListDueCommand(int days) {
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Book> dueBooks = model.getBooksDueWithin(days);
+        showLoans(model, dueBooks);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dueBooks.size(), days));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListDueCommand // instanceof handles nulls
+                && days == ((ListDueCommand) other).days);
+    }
+}
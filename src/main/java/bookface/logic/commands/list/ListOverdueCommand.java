@@ -2,8 +2,11 @@ package bookface.logic.commands.list;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import bookface.logic.commands.CommandResult;
 import bookface.model.Model;
+import bookface.model.book.Book;
 
 /**
  * List all users with overdue loans, and books that are overdue
@@ -11,14 +14,14 @@ import bookface.model.Model;
 public class ListOverdueCommand extends ListCommand {
     public static final String COMMAND_WORD = "overdue";
     public static final String MESSAGE_USAGE = ListCommand.generateMessage(COMMAND_WORD);
-    public static final String MESSAGE_SUCCESS = "Listed all users with overdue loans and the overdue books";
+    public static final String MESSAGE_SUCCESS = "Listed all %1$d overdue books and the users who loaned them";
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBookList(Model.PREDICATE_ALL_OVERDUE_BOOKS);
-        model.updateFilteredPersonList(Model.PREDICATE_OWE_OVERDUE_BOOKS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        List<Book> overdueBooks = model.getOverdueBooks();
+        showLoans(model, overdueBooks);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, overdueBooks.size()));
     }
 
     @Override
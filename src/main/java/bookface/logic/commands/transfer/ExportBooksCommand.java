@@ -0,0 +1,31 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Exports the title and author of every book to a CSV file.
+ */
+public class ExportBooksCommand extends ExportCommand {
+    public static final String COMMAND_WORD = "books";
+    public static final String MESSAGE_USAGE = ExportCommand.generateMessage(COMMAND_WORD,
+            COMMAND_WORD + " books.csv");
+
+    public ExportBooksCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return ImportBooksCommand.COLUMNS;
+    }
+
+    @Override
+    protected Stream<List<String>> getRows(ReadOnlyBookFace bookFace) {
+        return bookFace.getBookList().stream()
+                .map(book -> List.of(book.getTitle().bookTitle, book.getAuthor().bookAuthor));
+    }
+}
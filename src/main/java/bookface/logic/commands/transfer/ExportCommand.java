@@ -0,0 +1,103 @@
+package bookface.logic.commands.transfer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import bookface.commons.util.CsvUtil;
+import bookface.commons.util.FileUtil;
+import bookface.logic.commands.Command;
+import bookface.logic.commands.CommandResult;
+import bookface.logic.commands.exceptions.CommandException;
+import bookface.model.Model;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Exports records of BookFace to a CSV file that the matching {@link ImportCommand} can read back.
+ * The rows are written as they are generated, so that no copy of the records is made.
+ */
+public abstract class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    private static final String EXPORT_DESCRIPTION = "Exports all %s to a CSV file, replacing it if it exists";
+
+    public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, String.format(EXPORT_DESCRIPTION,
+            "books, users or loans"), COMMAND_WORD + " books books.csv");
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d rows to %2$s.";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write the file %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export to the CSV file at {@code filePath}.
+     */
+    protected ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Generates an usage message.
+     * @param commandName the name of the command
+     * @param commandExample the example usage of the command
+     * @return The generated usage message
+     */
+    public static String generateMessage(String commandName, String commandExample) {
+        return Command.generateMessage(COMMAND_WORD + " " + commandName,
+                String.format(EXPORT_DESCRIPTION, commandName), "FILE", COMMAND_WORD + " " + commandExample);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int rowCount = 0;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+                writer.write(CsvUtil.formatRow(getColumns()));
+                writer.newLine();
+                Iterator<List<String>> rows = getRows(model.getBookFace()).iterator();
+                while (rows.hasNext()) {
+                    writer.write(CsvUtil.formatRow(rows.next()));
+                    writer.newLine();
+                    rowCount++;
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, filePath));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the names of the columns of the CSV file, in order.
+     */
+    protected abstract List<String> getColumns();
+
+    /**
+     * Returns the fields of each row to export from {@code bookFace}, as many as the columns.
+     */
+    protected abstract Stream<List<String>> getRows(ReadOnlyBookFace bookFace);
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls and different exports
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
@@ -0,0 +1,35 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import bookface.commons.util.DateUtil;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+
+/**
+ * Exports every loan, as the name of the user, the title and author of the book and the due date, to a CSV file.
+ */
+public class ExportLoansCommand extends ExportCommand {
+    public static final String COMMAND_WORD = "loans";
+    public static final String MESSAGE_USAGE = ExportCommand.generateMessage(COMMAND_WORD,
+            COMMAND_WORD + " loans.csv");
+
+    public ExportLoansCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return ImportLoansCommand.COLUMNS;
+    }
+
+    @Override
+    protected Stream<List<String>> getRows(ReadOnlyBookFace bookFace) {
+        return bookFace.getBookList().stream()
+                .filter(Book::isLoaned)
+                .map(book -> List.of(book.getLoanee().get().getName().fullName, book.getTitle().bookTitle,
+                        book.getAuthor().bookAuthor, DateUtil.format(book.getReturnDate().get())));
+    }
+}
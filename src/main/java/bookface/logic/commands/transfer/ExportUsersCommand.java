@@ -0,0 +1,34 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Exports the name, phone number, email and tags of every user to a CSV file.
+ */
+public class ExportUsersCommand extends ExportCommand {
+    public static final String COMMAND_WORD = "users";
+    public static final String MESSAGE_USAGE = ExportCommand.generateMessage(COMMAND_WORD,
+            COMMAND_WORD + " users.csv");
+
+    public ExportUsersCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return ImportUsersCommand.COLUMNS;
+    }
+
+    @Override
+    protected Stream<List<String>> getRows(ReadOnlyBookFace bookFace) {
+        return bookFace.getPersonList().stream()
+                .map(person -> List.of(person.getName().fullName, person.getPhone().value,
+                        person.getEmail().value, person.getTags().stream().map(tag -> tag.tagName).sorted()
+                                .collect(Collectors.joining(" "))));
+    }
+}
@@ -0,0 +1,47 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+import bookface.commons.core.Messages;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.Model;
+import bookface.model.book.Book;
+
+/**
+ * Imports books from a CSV file, with a title and an author on each row.
+ */
+public class ImportBooksCommand extends ImportCommand<Book> {
+    public static final String COMMAND_WORD = "books";
+    public static final List<String> COLUMNS = List.of("title", "author");
+    public static final String MESSAGE_USAGE = ImportCommand.generateMessage(COMMAND_WORD, COLUMNS,
+            COMMAND_WORD + " shipment.csv");
+
+    public ImportBooksCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Book parseFields(List<String> fields) throws ParseException {
+        return new Book(ParserUtil.parseTitle(fields.get(0)), ParserUtil.parseAuthor(fields.get(1)));
+    }
+
+    @Override
+    protected int importRows(List<Row<Book>> rows, Model model) {
+        List<Book> existingBooks = model.getBookFace().getBookList();
+        List<Book> books = appendUnique(existingBooks, rows, Function.identity(), Messages.MESSAGE_DUPLICATE_BOOK);
+        int importedCount = books.size() - existingBooks.size();
+        if (importedCount > 0) {
+            model.setBooks(books);
+            model.updateFilteredBookList(Model.PREDICATE_SHOW_ALL_BOOKS);
+        }
+        return importedCount;
+    }
+}
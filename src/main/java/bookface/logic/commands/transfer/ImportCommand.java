@@ -0,0 +1,288 @@
+package bookface.logic.commands.transfer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.util.CsvUtil;
+import bookface.logic.commands.Command;
+import bookface.logic.commands.CommandResult;
+import bookface.logic.commands.exceptions.CommandException;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.Model;
+import bookface.model.util.UniquenessValidator;
+
+/**
+ * Imports the rows of a CSV file into BookFace as values of type {@code T}.
+ * The file is streamed in chunks of rows, and the rows of each chunk are parsed and validated in parallel, after
+ * which only their values are kept, not their lines. The rows are then checked against BookFace and each other in a
+ * single pass, and added to BookFace as a single change. Rows that fail are written to a reject file next to the CSV
+ * file, with the reason they failed, instead of stopping the import; their lines are read from the file again then.
+ */
+public abstract class ImportCommand<T> extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String REJECT_FILE_SUFFIX = ".rejects.csv";
+    public static final String REJECT_REASON_COLUMN = "reason";
+
+    private static final String IMPORT_DESCRIPTION = "Imports %s from a CSV file. Rows that cannot be imported "
+            + "are written to a " + REJECT_FILE_SUFFIX + " file next to it instead";
+
+    public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, String.format(IMPORT_DESCRIPTION,
+            "books, users or loans"), COMMAND_WORD + " books shipment.csv");
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d rows from %3$s.";
+    public static final String MESSAGE_REJECTED = "\n%1$d rows were rejected, see %2$s.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_CANNOT_WRITE_REJECTS = "\nCould not write the rejected rows to %1$s: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields (%2$s) but found %3$d.";
+
+    /** How many rows are read before they are parsed, which is enough to keep every core busy parsing. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the rows of the CSV file at {@code filePath}.
+     */
+    protected ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Generates an usage message.
+     * @param commandName the name of the command
+     * @param columns the columns of the CSV file
+     * @param commandExample the example usage of the command
+     * @return The generated usage message
+     */
+    public static String generateMessage(String commandName, List<String> columns, String commandExample) {
+        return Command.generateMessage(COMMAND_WORD + " " + commandName,
+                String.format(IMPORT_DESCRIPTION, commandName), "FILE, with the columns "
+                        + CsvUtil.formatRow(columns), COMMAND_WORD + " " + commandExample);
+    }
+
+    /**
+     * Returns the location of the reject file of the CSV file at {@code filePath}.
+     */
+    public static Path getRejectFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + REJECT_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Row<T>> rows;
+        try {
+            rows = readRows();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, ioe.getMessage()), ioe);
+        }
+        int importedCount = importRows(rows, model);
+
+        String feedback = String.format(MESSAGE_SUCCESS, importedCount, rows.size(), filePath);
+        List<Row<T>> rejects = rows.stream().filter(Row::isRejected).collect(Collectors.toList());
+        Path rejectFilePath = getRejectFilePath(filePath);
+        try {
+            writeRejects(rejects, rejectFilePath);
+        } catch (IOException ioe) {
+            // the model has already changed, so the import still succeeds and is saved
+            logger.warning("Could not write rejected rows to " + rejectFilePath + ": " + ioe);
+            return new CommandResult(feedback + String.format(MESSAGE_CANNOT_WRITE_REJECTS, rejectFilePath, ioe));
+        }
+        if (!rejects.isEmpty()) {
+            feedback += String.format(MESSAGE_REJECTED, rejects.size(), rejectFilePath);
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns the names of the columns of the CSV file, in order.
+     */
+    protected abstract List<String> getColumns();
+
+    /**
+     * Parses the fields of a row, which are as many as the columns, into a value.
+     * This may be called from several threads at once, so it must not use any shared state.
+     *
+     * @throws ParseException if any of the fields is not valid.
+     */
+    protected abstract T parseFields(List<String> fields) throws ParseException;
+
+    /**
+     * Adds the values of the rows that are not rejected to {@code model} as a single change, rejecting those that
+     * conflict with BookFace or with an earlier row.
+     *
+     * @return the number of rows imported.
+     */
+    protected abstract int importRows(List<Row<T>> rows, Model model);
+
+    /**
+     * Returns {@code existing} followed by the values of the rows that are not rejected, rejecting those with the
+     * same identity as an existing value or an earlier row with {@code duplicateMessage}.
+     */
+    protected static <E> List<E> appendUnique(List<E> existing, List<Row<E>> rows,
+            Function<? super E, ?> identityKey, String duplicateMessage) {
+        List<E> values = new ArrayList<>(existing);
+        UniquenessValidator<E> validator = new UniquenessValidator<E>(identityKey).addAll(existing);
+        for (Row<E> row : rows) {
+            if (row.isRejected()) {
+                continue;
+            }
+            if (validator.add(row.getValue())) {
+                values.add(row.getValue());
+            } else {
+                row.reject(duplicateMessage);
+            }
+        }
+        return values;
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().equalsIgnoreCase(CsvUtil.formatRow(getColumns()));
+    }
+
+    /**
+     * Reads the rows of the CSV file, skipping its header and blank lines, and parses each chunk of them in parallel
+     * as soon as it has been read.
+     */
+    private List<Row<T>> readRows() throws IOException {
+        List<Row<T>> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if ((lineNumber == 1 && isHeader(line)) || line.trim().isEmpty()) {
+                    continue;
+                }
+                chunk.add(new Row<>(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    parseRows(chunk);
+                    rows.addAll(chunk);
+                    chunk.clear();
+                }
+            }
+            parseRows(chunk);
+            rows.addAll(chunk);
+        }
+        return rows;
+    }
+
+    /**
+     * Parses each of {@code rows} on its own, in parallel.
+     */
+    private void parseRows(List<Row<T>> rows) {
+        rows.parallelStream().forEach(this::parseRow);
+    }
+
+    private void parseRow(Row<T> row) {
+        try {
+            List<String> fields = CsvUtil.parseRow(row.text);
+            if (fields.size() != getColumns().size()) {
+                row.reject(String.format(MESSAGE_WRONG_FIELD_COUNT, getColumns().size(),
+                        CsvUtil.formatRow(getColumns()), fields.size()));
+                return;
+            }
+            row.value = parseFields(fields);
+        } catch (IllegalArgumentException | ParseException e) {
+            row.reject(e.getMessage());
+        } finally {
+            // the rows may still be rejected on import, so the lines of all rejected rows are read again instead
+            row.text = null;
+        }
+    }
+
+    /**
+     * Writes the lines of {@code rejects}, which are in file order, to the reject file, with the reason for each, or
+     * deletes the reject file of an earlier import if there are none.
+     *
+     * @throws IOException if the CSV file cannot be read again, or has fewer lines than when it was imported.
+     */
+    private void writeRejects(List<Row<T>> rejects, Path rejectFilePath) throws IOException {
+        if (rejects.isEmpty()) {
+            Files.deleteIfExists(rejectFilePath);
+            return;
+        }
+
+        List<String> header = new ArrayList<>(getColumns());
+        header.add(REJECT_REASON_COLUMN);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                BufferedWriter writer = Files.newBufferedWriter(rejectFilePath, StandardCharsets.UTF_8)) {
+            writer.write(CsvUtil.formatRow(header));
+            writer.newLine();
+            int lineNumber = 0;
+            String line = null;
+            for (Row<T> reject : rejects) {
+                while (lineNumber < reject.lineNumber) {
+                    line = reader.readLine();
+                    lineNumber++;
+                }
+                if (line == null) {
+                    throw new IOException(filePath + " no longer has line " + reject.lineNumber);
+                }
+                writer.write(line);
+                writer.write(',');
+                writer.write(CsvUtil.formatRow(List.of(reject.rejectReason)));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls and different imports
+                && filePath.equals(((ImportCommand<?>) other).filePath));
+    }
+
+    /**
+     * A row of the CSV file, and either the value it was parsed into or the reason it was rejected.
+     * The line of the row is only kept until it is parsed.
+     */
+    protected static class Row<T> {
+        private final int lineNumber;
+        private String text;
+        private T value;
+        private String rejectReason;
+
+        private Row(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isRejected() {
+            return rejectReason != null;
+        }
+
+        /**
+         * Rejects this row for {@code reason}, so that it is not imported.
+         */
+        public void reject(String reason) {
+            rejectReason = "Line " + lineNumber + ": " + reason;
+        }
+    }
+}
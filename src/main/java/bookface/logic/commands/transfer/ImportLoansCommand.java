@@ -0,0 +1,105 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+import bookface.commons.util.DateUtil;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.BookFace;
+import bookface.model.Model;
+import bookface.model.book.Book;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+
+/**
+ * Imports loans of existing books to existing users from a CSV file, with the name of the user, the title and
+ * author of the book, and the due date in the format yyyy-MM-dd on each row.
+ */
+public class ImportLoansCommand extends ImportCommand<ImportLoansCommand.Loan> {
+    public static final String COMMAND_WORD = "loans";
+    public static final List<String> COLUMNS = List.of("name", "title", "author", "due date");
+    public static final String MESSAGE_USAGE = ImportCommand.generateMessage(COMMAND_WORD, COLUMNS,
+            COMMAND_WORD + " loans.csv");
+
+    public static final String MESSAGE_INVALID_DUE_DATE = "Due date should be in the format yyyy-MM-dd.";
+    public static final String MESSAGE_UNKNOWN_USER = "There is no user with this name.";
+    public static final String MESSAGE_UNKNOWN_BOOK = "There is no book with this title and author.";
+    public static final String MESSAGE_ALREADY_ON_LOAN = "This book is already on loan.";
+
+    public ImportLoansCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Loan parseFields(List<String> fields) throws ParseException {
+        LocalDate dueDate;
+        try {
+            dueDate = DateUtil.parse(fields.get(3).trim());
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(MESSAGE_INVALID_DUE_DATE, dtpe);
+        }
+        return new Loan(ParserUtil.parseName(fields.get(0)),
+                new Book(ParserUtil.parseTitle(fields.get(1)), ParserUtil.parseAuthor(fields.get(2))),
+                dueDate);
+    }
+
+    /**
+     * Loans the books on a copy of BookFace, which then replaces BookFace, so that the displayed lists change
+     * once rather than once for every loan.
+     */
+    @Override
+    protected int importRows(List<Row<Loan>> rows, Model model) {
+        BookFace bookFace = BookFace.deepCopyOf(model.getBookFace());
+        int importedCount = 0;
+        for (Row<Loan> row : rows) {
+            if (row.isRejected()) {
+                continue;
+            }
+
+            Loan loan = row.getValue();
+            Optional<Person> loanee = bookFace.getPerson(loan.loaneeName);
+            Optional<Book> book = bookFace.getBook(loan.book);
+            if (loanee.isEmpty()) {
+                row.reject(MESSAGE_UNKNOWN_USER);
+            } else if (book.isEmpty()) {
+                row.reject(MESSAGE_UNKNOWN_BOOK);
+            } else if (book.get().isLoaned()) {
+                row.reject(MESSAGE_ALREADY_ON_LOAN);
+            } else {
+                bookFace.loan(loanee.get(), book.get(), loan.returnDate);
+                importedCount++;
+            }
+        }
+
+        if (importedCount > 0) {
+            model.setBookFace(bookFace);
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            model.updateFilteredBookList(Model.PREDICATE_SHOW_ALL_BOOKS);
+        }
+        return importedCount;
+    }
+
+    /**
+     * A loan read from a row, of the book with the same title and author as {@code book}.
+     */
+    static class Loan {
+        private final Name loaneeName;
+        private final Book book;
+        private final LocalDate returnDate;
+
+        Loan(Name loaneeName, Book book, LocalDate returnDate) {
+            this.loaneeName = loaneeName;
+            this.book = book;
+            this.returnDate = returnDate;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package bookface.logic.commands.transfer;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import bookface.commons.core.Messages;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.Model;
+import bookface.model.person.Person;
+import bookface.model.tag.Tag;
+
+/**
+ * Imports users from a CSV file, with a name, a phone number, an email and tags separated by spaces on each row.
+ */
+public class ImportUsersCommand extends ImportCommand<Person> {
+    public static final String COMMAND_WORD = "users";
+    public static final List<String> COLUMNS = List.of("name", "phone", "email", "tags");
+    public static final String MESSAGE_USAGE = ImportCommand.generateMessage(COMMAND_WORD, COLUMNS,
+            COMMAND_WORD + " members.csv");
+
+    public ImportUsersCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Person parseFields(List<String> fields) throws ParseException {
+        String tags = fields.get(3).trim();
+        Set<Tag> tagSet = tags.isEmpty() ? new HashSet<>() : ParserUtil.parseTags(Arrays.asList(tags.split("\\s+")));
+        return new Person(ParserUtil.parseName(fields.get(0)), ParserUtil.parsePhone(fields.get(1)),
+                ParserUtil.parseEmail(fields.get(2)), new HashSet<>(), tagSet);
+    }
+
+    @Override
+    protected int importRows(List<Row<Person>> rows, Model model) {
+        List<Person> existingPersons = model.getBookFace().getPersonList();
+        List<Person> persons = appendUnique(existingPersons, rows, Person::getName,
+                Messages.MESSAGE_DUPLICATE_PERSON);
+        int importedCount = persons.size() - existingPersons.size();
+        if (importedCount > 0) {
+            model.setPersons(persons);
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+        return importedCount;
+    }
+}
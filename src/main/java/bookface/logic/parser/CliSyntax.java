@@ -14,6 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_TITLE = new Prefix("t/");
     public static final Prefix PREFIX_AUTHOR = new Prefix("a/");
+    public static final Prefix PREFIX_RESULT_LIMIT = new Prefix("top/");
 
     public static final List<Prefix> PREFIXES_MULTIPLE_ALLOWED = List.of(PREFIX_TAG);
 }
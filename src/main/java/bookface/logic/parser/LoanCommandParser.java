@@ -1,13 +1,10 @@
 package bookface.logic.parser;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.util.Date;
-import java.util.List;
+import static java.util.Objects.requireNonNull;
 
-import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.regex.Pattern;
 
 import bookface.commons.core.Messages;
 import bookface.commons.core.index.Index;
@@ -22,6 +19,26 @@ public class LoanCommandParser implements Parseable<LoanCommand> {
     //TODO Check if there's a better way to detect invalid loan commands
     public static final String VALIDATION_REGEX = "(\\d+\\s+\\d+\\s+(?s).*)|(\\d+\\s+\\d+)";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private final ReturnDateResolver returnDateResolver;
+
+    /**
+     * Creates a LoanCommandParser that resolves due dates with the resolver shared by every {@code loan} command.
+     */
+    public LoanCommandParser() {
+        this(ReturnDateResolver.getDefault());
+    }
+
+    /**
+     * Creates a LoanCommandParser that resolves due dates with {@code returnDateResolver}.
+     */
+    public LoanCommandParser(ReturnDateResolver returnDateResolver) {
+        requireNonNull(returnDateResolver);
+        this.returnDateResolver = returnDateResolver;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the LoanCommand
      * and returns a LoanCommand object for execution.
@@ -31,12 +48,12 @@ public class LoanCommandParser implements Parseable<LoanCommand> {
     @Override
     public LoanCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty() || !trimmedArgs.matches(VALIDATION_REGEX)) {
+        if (trimmedArgs.isEmpty() || !VALIDATION_PATTERN.matcher(trimmedArgs).matches()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, LoanCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        String[] nameKeywords = WHITESPACE_PATTERN.split(trimmedArgs);
 
         String firstIndex = nameKeywords[0];
         String secondIndex = nameKeywords[1];
@@ -52,45 +69,11 @@ public class LoanCommandParser implements Parseable<LoanCommand> {
 
         if (nameKeywords.length < 3) {
             return new LoanCommand(userIndex, bookIndex);
-        } else {
-            StringBuilder stringbuilder = new StringBuilder();
-            for (int i = 2; i < nameKeywords.length; i++) {
-                stringbuilder.append(nameKeywords[i]);
-                stringbuilder.append(" ");
-            }
-            String parsedString = stringbuilder.toString().trim();
-            // The first two if cases are added to "override" prettytimeparser for some date formats as it is
-            // unable to parse formats such as 26/10/2022 and handle invalid date cases properly.
-            // Solution below adapted from https://stackoverflow.com/questions/62054264/check-invalid-date-by-localdate
-            if (parsedString.matches("^([0-9][0-9])/([0-9][0-9])/([0-9][0-9])?[0-9][0-9]$")) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-                formatter = formatter.withResolverStyle(ResolverStyle.SMART);
-                try {
-                    LocalDate ld = LocalDate.parse(parsedString, formatter);
-                    Date date = java.sql.Date.valueOf(ld);
-                    return new LoanCommand(userIndex, bookIndex, date);
-                } catch (DateTimeParseException e) {
-                    throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
-                }
-            } else if (parsedString.matches("^([0-9][0-9])?[0-9][0-9]-([0-9][0-9])-([0-9][0-9])$")) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                formatter = formatter.withResolverStyle(ResolverStyle.SMART);
-                try {
-                    LocalDate ld = LocalDate.parse(parsedString, formatter);
-                    Date date = java.sql.Date.valueOf(ld);
-                    return new LoanCommand(userIndex, bookIndex, date);
-                } catch (DateTimeParseException e) {
-                    throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
-                }
-            } else {
-                List<Date> parsedReturnDate = new PrettyTimeParser().parse(parsedString);
-                if (parsedReturnDate.isEmpty()) {
-                    throw new ParseException(String.format(Messages.MESSAGE_INVALID_DATE_PARSE,
-                            LoanCommand.MESSAGE_USAGE));
-                }
-                return new LoanCommand(userIndex, bookIndex, parsedReturnDate.get(0));
-            }
         }
+
+        String returnDatePhrase = String.join(" ", Arrays.copyOfRange(nameKeywords, 2, nameKeywords.length));
+        LocalDate returnDate = returnDateResolver.resolve(returnDatePhrase).orElseThrow(() ->
+                new ParseException(String.format(Messages.MESSAGE_INVALID_DATE_PARSE, LoanCommand.MESSAGE_USAGE)));
+        return new LoanCommand(userIndex, bookIndex, returnDate);
     }
 }
-
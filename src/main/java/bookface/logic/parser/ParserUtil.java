@@ -2,13 +2,17 @@ package bookface.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import bookface.commons.core.index.Index;
+import bookface.commons.util.FileUtil;
 import bookface.commons.util.StringUtil;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.model.book.Author;
@@ -24,6 +28,9 @@ import bookface.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RESULT_LIMIT = "Number of results is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DAY_COUNT = "Number of days is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is missing or not valid.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -38,6 +45,44 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code resultLimit} into the maximum number of results to list. Leading and trailing whitespaces will
+     * be trimmed.
+     * @throws ParseException if the specified number is invalid (not non-zero unsigned integer).
+     */
+    public static int parseResultLimit(String resultLimit) throws ParseException {
+        String trimmedLimit = resultLimit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_RESULT_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    /**
+     * Parses {@code dayCount} into a number of days. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified number is invalid (not non-zero unsigned integer).
+     */
+    public static int parseDayCount(String dayCount) throws ParseException {
+        String trimmedDayCount = dayCount.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDayCount)) {
+            throw new ParseException(MESSAGE_INVALID_DAY_COUNT);
+        }
+        return Integer.parseInt(trimmedDayCount);
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path}. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified path is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -47,10 +92,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return create(Name::new, trimmedName);
     }
 
     /**
@@ -62,10 +104,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return create(Phone::new, trimmedPhone);
     }
 
 
@@ -78,10 +117,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return create(Email::new, trimmedEmail);
     }
 
     /**
@@ -93,10 +129,7 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return create(Tag::new, trimmedTag);
     }
 
     /**
@@ -136,10 +169,7 @@ public class ParserUtil {
     public static Title parseTitle(String title) throws ParseException {
         requireNonNull(title);
         String trimmedTitle = title.trim();
-        if (!Title.isValidTitle(trimmedTitle)) {
-            throw new ParseException(Title.MESSAGE_CONSTRAINTS);
-        }
-        return new Title(trimmedTitle);
+        return create(Title::new, trimmedTitle);
     }
 
     /**
@@ -151,9 +181,19 @@ public class ParserUtil {
     public static Author parseAuthor(String author) throws ParseException {
         requireNonNull(author);
         String trimmedAuthor = author.trim();
-        if (!Author.isValidAuthor(trimmedAuthor)) {
-            throw new ParseException(Author.MESSAGE_CONSTRAINTS);
+        return create(Author::new, trimmedAuthor);
+    }
+
+    /**
+     * Returns the value that {@code constructor} creates from {@code value}, which validates {@code value} once.
+     *
+     * @throws ParseException with the constructor's message if {@code value} is not a valid value.
+     */
+    private static <T> T create(Function<String, T> constructor, String value) throws ParseException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(iae.getMessage());
         }
-        return new Author(trimmedAuthor);
     }
 }
@@ -0,0 +1,204 @@
+package bookface.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import bookface.commons.core.Messages;
+import bookface.commons.util.DateUtil;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Resolves the due dates given to {@code loan}, such as "2022-10-30", "31/10/2022", "in 2 weeks" or "next friday",
+ * into dates.
+ * Dates and the most common phrases are resolved directly. Other phrases are resolved by a single {@code
+ * PrettyTimeParser}, which is slow to create and to parse with, so its results are kept in a cache of the most
+ * recently resolved phrases until the day changes.
+ */
+public class ReturnDateResolver {
+
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    // PrettyTime cannot parse dates such as 26/10/2022 or tell invalid dates apart, so dates are parsed here
+    // Solution below adapted from https://stackoverflow.com/questions/62054264/check-invalid-date-by-localdate
+    private static final Pattern DAY_MONTH_YEAR_PATTERN =
+            Pattern.compile("([0-9][0-9])/([0-9][0-9])/([0-9][0-9])?[0-9][0-9]");
+    private static final Pattern YEAR_MONTH_DAY_PATTERN =
+            Pattern.compile("([0-9][0-9])?[0-9][0-9]-([0-9][0-9])-([0-9][0-9])");
+    private static final DateTimeFormatter DAY_MONTH_YEAR_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy")
+            .withResolverStyle(ResolverStyle.SMART);
+    private static final DateTimeFormatter YEAR_MONTH_DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd")
+            .withResolverStyle(ResolverStyle.SMART);
+
+    private static final Pattern IN_PERIOD_PATTERN = Pattern.compile("in ([0-9]{1,4}|an?) (day|week|month|year)s?");
+    private static final Pattern NEXT_DAY_PATTERN = Pattern.compile("next (\\p{Alpha}+day)");
+    private static final String WARM_UP_PHRASE = "two saturdays ago";
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private static final ReturnDateResolver DEFAULT = new ReturnDateResolver(Clock.systemDefaultZone(),
+            DEFAULT_CACHE_SIZE);
+
+    private final Clock clock;
+    private final int cacheSize;
+    private final Map<String, Optional<LocalDate>> recentPhrases;
+    private LocalDate cacheDate;
+    private PrettyTimeParser prettyTimeParser;
+
+    /**
+     * Creates a {@code ReturnDateResolver} that resolves phrases relative to today on {@code clock}, and caches
+     * the results of up to {@code cacheSize} phrases resolved by PrettyTime.
+     */
+    public ReturnDateResolver(Clock clock, int cacheSize) {
+        requireNonNull(clock);
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("The cache size cannot be negative: " + cacheSize);
+        }
+        this.clock = clock;
+        this.cacheSize = cacheSize;
+        this.recentPhrases = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<LocalDate>> eldest) {
+                return size() > ReturnDateResolver.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the resolver shared by every {@code loan} command, on the system clock.
+     */
+    public static ReturnDateResolver getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Resolves {@code phrase} into a date, or returns an empty {@code Optional} if it is not a date or a phrase
+     * describing one.
+     *
+     * @throws ParseException if {@code phrase} is a date with an invalid day or month.
+     */
+    public synchronized Optional<LocalDate> resolve(String phrase) throws ParseException {
+        requireNonNull(phrase);
+        String normalizedPhrase = WHITESPACE_PATTERN.matcher(phrase.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        if (DAY_MONTH_YEAR_PATTERN.matcher(normalizedPhrase).matches()) {
+            return Optional.of(parseDate(normalizedPhrase, DAY_MONTH_YEAR_FORMAT));
+        }
+        if (YEAR_MONTH_DAY_PATTERN.matcher(normalizedPhrase).matches()) {
+            return Optional.of(parseDate(normalizedPhrase, YEAR_MONTH_DAY_FORMAT));
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        Optional<LocalDate> date = resolveCommonPhrase(normalizedPhrase, today);
+        if (date.isPresent()) {
+            return date;
+        }
+
+        if (!today.equals(cacheDate)) {
+            // the phrases are relative to today, so what they resolved to before is stale
+            recentPhrases.clear();
+            cacheDate = today;
+        }
+        date = recentPhrases.get(normalizedPhrase);
+        if (date == null) {
+            date = resolveWithPrettyTime(normalizedPhrase);
+            if (cacheSize > 0) {
+                recentPhrases.put(normalizedPhrase, date);
+            }
+        }
+        return date;
+    }
+
+    /**
+     * Creates the PrettyTime parser and resolves a phrase with it, so that the first phrase given to {@code loan}
+     * does not wait for PrettyTime to load. The result is not cached.
+     */
+    public synchronized void warmUp() {
+        resolveWithPrettyTime(WARM_UP_PHRASE);
+    }
+
+    private static LocalDate parseDate(String text, DateTimeFormatter format) throws ParseException {
+        try {
+            return LocalDate.parse(text, format);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
+    /**
+     * Resolves the phrases that are given most often the same way PrettyTime does, without PrettyTime.
+     */
+    private static Optional<LocalDate> resolveCommonPhrase(String phrase, LocalDate today) {
+        switch (phrase) {
+        case "today":
+            return Optional.of(today);
+        case "tomorrow":
+            return Optional.of(today.plusDays(1));
+        case "yesterday":
+            return Optional.of(today.minusDays(1));
+        case "next week":
+            return Optional.of(today.plusWeeks(1));
+        default:
+            break;
+        }
+
+        Matcher inPeriod = IN_PERIOD_PATTERN.matcher(phrase);
+        if (inPeriod.matches()) {
+            String count = inPeriod.group(1);
+            int amount = Character.isDigit(count.charAt(0)) ? Integer.parseInt(count) : 1;
+            switch (inPeriod.group(2)) {
+            case "day":
+                return Optional.of(today.plusDays(amount));
+            case "week":
+                return Optional.of(today.plusWeeks(amount));
+            case "month":
+                return Optional.of(today.plusMonths(amount));
+            default:
+                return Optional.of(today.plusYears(amount));
+            }
+        }
+
+        Matcher next = NEXT_DAY_PATTERN.matcher(phrase);
+        if (next.matches()) {
+            return parseDayOfWeek(next.group(1)).map(day -> {
+                // PrettyTime takes "next friday" as the friday of next week, not the first friday after today
+                DayOfWeek firstDayOfWeek = WeekFields.of(Locale.getDefault()).getFirstDayOfWeek();
+                return today.with(TemporalAdjusters.previousOrSame(firstDayOfWeek)).plusWeeks(1)
+                        .with(TemporalAdjusters.nextOrSame(day));
+            });
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<DayOfWeek> parseDayOfWeek(String name) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (name.equals(day.name().toLowerCase(Locale.ROOT))) {
+                return Optional.of(day);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<LocalDate> resolveWithPrettyTime(String phrase) {
+        if (prettyTimeParser == null) {
+            prettyTimeParser = new PrettyTimeParser();
+        }
+        List<Date> dates = prettyTimeParser.parse(phrase);
+        return dates.isEmpty() ? Optional.empty() : Optional.of(DateUtil.toLocalDate(dates.get(0)));
+    }
+}
@@ -0,0 +1,82 @@
+package bookface.logic.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import bookface.commons.core.Messages;
+import bookface.logic.commands.Command;
+import bookface.logic.commands.RunCommand;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.logic.parser.primary.PrimaryParser;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parseable<RunCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A file of commands cannot run another one.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution, with every command in the file already parsed.
+     *
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read,
+     *     or any of its commands does not conform to the expected format
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs, e.getMessage()), e);
+        }
+        return parseLines(lines);
+    }
+
+    /**
+     * Parses each of {@code lines} as a command, skipping blank lines and lines starting with
+     * {@code COMMENT_PREFIX}, and returns a RunCommand that runs them in order.
+     *
+     * @throws ParseException if any of the lines does not conform to the expected format
+     */
+    public static RunCommand parseLines(List<String> lines) throws ParseException {
+        PrimaryParser primaryParser = new PrimaryParser();
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            // checked before parsing, as parsing a run command reads its file, which may be this one
+            if (line.split("\\s+", 2)[0].equalsIgnoreCase(RunCommand.COMMAND_WORD)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, i + 1, MESSAGE_NESTED_RUN));
+            }
+            try {
+                commands.add(primaryParser.parse(line));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, i + 1, pe.getMessage()), pe);
+            }
+            lineNumbers.add(i + 1);
+        }
+        return new RunCommand(commands, lineNumbers);
+    }
+}
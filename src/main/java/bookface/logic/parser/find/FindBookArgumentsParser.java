@@ -1,13 +1,17 @@
 package bookface.logic.parser.find;
 
+import static bookface.logic.parser.CliSyntax.PREFIX_RESULT_LIMIT;
+
 import java.util.Arrays;
+import java.util.Optional;
 
 import bookface.commons.core.Messages;
-import bookface.commons.util.StringUtil;
 import bookface.logic.commands.find.FindBookCommand;
+import bookface.logic.parser.ArgumentMultimap;
+import bookface.logic.parser.ArgumentTokenizer;
 import bookface.logic.parser.Parseable;
+import bookface.logic.parser.ParserUtil;
 import bookface.logic.parser.exceptions.ParseException;
-import bookface.model.ObjectContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates the relevant new FindBookCommand object for the relevant entity to be added
@@ -19,16 +23,19 @@ public class FindBookArgumentsParser implements Parseable<FindBookCommand> {
      */
     @Override
     public FindBookCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_RESULT_LIMIT);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        Optional<String> resultLimitValue = argMultimap.getValue(PREFIX_RESULT_LIMIT);
+        Optional<Integer> resultLimit = resultLimitValue.isPresent()
+                ? Optional.of(ParserUtil.parseResultLimit(resultLimitValue.get()))
+                : Optional.empty();
 
-        return new FindBookCommand(new ObjectContainsKeywordsPredicate<>(Arrays.asList(nameKeywords),
-                book -> keyword -> StringUtil.containsPartialWordIgnoreCase(book.getTitle().toString(), keyword)
-                        || StringUtil.containsPartialWordIgnoreCase(book.getAuthor().toString(), keyword)));
+        return new FindBookCommand(Arrays.asList(nameKeywords), resultLimit);
     }
 }
@@ -0,0 +1,25 @@
+package bookface.logic.parser.list;
+
+import bookface.commons.core.Messages;
+import bookface.logic.commands.list.ListDueCommand;
+import bookface.logic.parser.Parseable;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListDueCommand object
+ */
+public class ListDueArgumentsParser implements Parseable<ListDueCommand> {
+    /**
+     * Parses the given number of days in the context of the ListDueCommand
+     * and returns a ListDueCommand object for execution.
+     */
+    @Override
+    public ListDueCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListDueCommand.MESSAGE_USAGE));
+        }
+        return new ListDueCommand(ParserUtil.parseDayCount(args));
+    }
+}
@@ -18,7 +18,8 @@ public enum ListSubcommand implements CommandReturnable {
     BOOKS((args) -> new ListBooksCommand()),
     LOANS((args) -> new ListLoansCommand()),
     ALL((args) -> new ListAllCommand()),
-    OVERDUE((args) -> new ListOverdueCommand());
+    OVERDUE((args) -> new ListOverdueCommand()),
+    DUE((args) -> new ListDueArgumentsParser().parse(args));
 
     private final ParserFunction<? super String, ? extends ListCommand> commandFunction;
 
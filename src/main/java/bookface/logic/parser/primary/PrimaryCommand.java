@@ -8,12 +8,15 @@ import bookface.logic.parser.CommandReturnable;
 import bookface.logic.parser.LoanCommandParser;
 import bookface.logic.parser.ParserFunction;
 import bookface.logic.parser.ReturnCommandParser;
+import bookface.logic.parser.RunCommandParser;
 import bookface.logic.parser.add.AddCommandParser;
 import bookface.logic.parser.delete.DeleteCommandParser;
 import bookface.logic.parser.edit.EditCommandParser;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.logic.parser.find.FindCommandParser;
 import bookface.logic.parser.list.ListCommandParser;
+import bookface.logic.parser.transfer.ExportCommandParser;
+import bookface.logic.parser.transfer.ImportCommandParser;
 
 /**
  * An enum class that contains all the valid user commands.
@@ -28,7 +31,10 @@ public enum PrimaryCommand implements CommandReturnable {
     EXIT((args) -> new ExitCommand()),
     HELP((args) -> new HelpCommand()),
     LOAN((args) -> new LoanCommandParser().parse(args)),
-    RETURN((args) -> new ReturnCommandParser().parse(args));
+    RETURN((args) -> new ReturnCommandParser().parse(args)),
+    RUN((args) -> new RunCommandParser().parse(args)),
+    IMPORT((args) -> new ImportCommandParser().parse(args)),
+    EXPORT((args) -> new ExportCommandParser().parse(args));
 
     private final ParserFunction<? super String, ? extends Command> commandFunction;
 
@@ -0,0 +1,27 @@
+package bookface.logic.parser.transfer;
+
+import bookface.commons.core.Messages;
+import bookface.logic.commands.transfer.ExportCommand;
+import bookface.logic.parser.CommandParser;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser extends CommandParser<ExportCommand> {
+    public ExportCommandParser() {
+        super(ExportCommand.MESSAGE_USAGE);
+    }
+
+    @Override
+    protected ExportCommand handleParsedCommand(String commandWord, String args) throws ParseException {
+        ExportSubcommand exportType;
+        try {
+            exportType = ExportSubcommand.valueOf(commandWord.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportCommand.MESSAGE_USAGE));
+        }
+        return exportType.runParseFunction(args);
+    }
+}
@@ -0,0 +1,30 @@
+package bookface.logic.parser.transfer;
+
+import bookface.logic.commands.transfer.ExportBooksCommand;
+import bookface.logic.commands.transfer.ExportCommand;
+import bookface.logic.commands.transfer.ExportLoansCommand;
+import bookface.logic.commands.transfer.ExportUsersCommand;
+import bookface.logic.parser.CommandReturnable;
+import bookface.logic.parser.ParserFunction;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * An enum class that contains all the valid Export commands.
+ */
+public enum ExportSubcommand implements CommandReturnable {
+    BOOKS((args) -> new ExportBooksCommand(ParserUtil.parseFilePath(args))),
+    USERS((args) -> new ExportUsersCommand(ParserUtil.parseFilePath(args))),
+    LOANS((args) -> new ExportLoansCommand(ParserUtil.parseFilePath(args)));
+
+    private final ParserFunction<? super String, ? extends ExportCommand> commandFunction;
+
+    ExportSubcommand(ParserFunction<? super String, ? extends ExportCommand> commandString) {
+        this.commandFunction = commandString;
+    }
+
+    @Override
+    public ExportCommand runParseFunction(String args) throws ParseException {
+        return this.commandFunction.apply(args);
+    }
+}
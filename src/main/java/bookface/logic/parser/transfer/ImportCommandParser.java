@@ -0,0 +1,27 @@
+package bookface.logic.parser.transfer;
+
+import bookface.commons.core.Messages;
+import bookface.logic.commands.transfer.ImportCommand;
+import bookface.logic.parser.CommandParser;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser extends CommandParser<ImportCommand<?>> {
+    public ImportCommandParser() {
+        super(ImportCommand.MESSAGE_USAGE);
+    }
+
+    @Override
+    protected ImportCommand<?> handleParsedCommand(String commandWord, String args) throws ParseException {
+        ImportSubcommand importType;
+        try {
+            importType = ImportSubcommand.valueOf(commandWord.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportCommand.MESSAGE_USAGE));
+        }
+        return importType.runParseFunction(args);
+    }
+}
@@ -0,0 +1,30 @@
+package bookface.logic.parser.transfer;
+
+import bookface.logic.commands.transfer.ImportBooksCommand;
+import bookface.logic.commands.transfer.ImportCommand;
+import bookface.logic.commands.transfer.ImportLoansCommand;
+import bookface.logic.commands.transfer.ImportUsersCommand;
+import bookface.logic.parser.CommandReturnable;
+import bookface.logic.parser.ParserFunction;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * An enum class that contains all the valid Import commands.
+ */
+public enum ImportSubcommand implements CommandReturnable {
+    BOOKS((args) -> new ImportBooksCommand(ParserUtil.parseFilePath(args))),
+    USERS((args) -> new ImportUsersCommand(ParserUtil.parseFilePath(args))),
+    LOANS((args) -> new ImportLoansCommand(ParserUtil.parseFilePath(args)));
+
+    private final ParserFunction<? super String, ? extends ImportCommand<?>> commandFunction;
+
+    ImportSubcommand(ParserFunction<? super String, ? extends ImportCommand<?>> commandString) {
+        this.commandFunction = commandString;
+    }
+
+    @Override
+    public ImportCommand<?> runParseFunction(String args) throws ParseException {
+        return this.commandFunction.apply(args);
+    }
+}
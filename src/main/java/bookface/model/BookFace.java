@@ -2,14 +2,21 @@ package bookface.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import bookface.commons.util.CollectionUtil;
+import bookface.commons.util.DateUtil;
 import bookface.model.book.Book;
 import bookface.model.book.BookList;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
 import bookface.model.person.UniquePersonList;
 import javafx.collections.ObservableList;
@@ -22,6 +29,8 @@ public class BookFace implements ReadOnlyBookFace {
 
     private final UniquePersonList persons;
     private final BookList books;
+    private final List<BookFaceListener> listeners = new ArrayList<>();
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +54,39 @@ public class BookFace implements ReadOnlyBookFace {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code toBeCopied} that shares no persons or books with it, so that changes to the copy,
+     * including loans and returns, do not show in {@code toBeCopied}.
+     */
+    public static BookFace deepCopyOf(ReadOnlyBookFace toBeCopied) {
+        requireNonNull(toBeCopied);
+
+        Map<Name, Person> copiedPersons = new HashMap<>();
+        List<Person> persons = new ArrayList<>();
+        for (Person person : toBeCopied.getPersonList()) {
+            Person copy = new Person(person.getName(), person.getPhone(), person.getEmail(), new HashSet<>(),
+                    person.getTags());
+            copiedPersons.put(person.getName(), copy);
+            persons.add(copy);
+        }
+
+        List<Book> books = new ArrayList<>();
+        for (Book book : toBeCopied.getBookList()) {
+            Book copy = new Book(book.getTitle(), book.getAuthor());
+            book.getLoanee().map(loanee -> copiedPersons.get(loanee.getName())).ifPresent(loanee -> {
+                copy.loanTo(loanee, book.getReturnDate()
+                        .orElseGet(DateUtil::getFourteenDaysLaterDate));
+                loanee.addLoanedBook(copy);
+            });
+            books.add(copy);
+        }
+
+        BookFace copy = new BookFace();
+        copy.setPersons(persons);
+        copy.setBooks(books);
+        return copy;
+    }
+
     //// list overwrite operations
 
     /**
@@ -53,6 +95,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        recordChange(BookFaceListener::dataReset);
     }
 
     /**
@@ -61,6 +104,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void setBooks(List<Book> books) {
         this.books.setBooks(books);
+        recordChange(BookFaceListener::dataReset);
     }
 
     /**
@@ -69,11 +113,67 @@ public class BookFace implements ReadOnlyBookFace {
     public void resetData(ReadOnlyBookFace newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setBooks(newData.getBookList());
+        // both lists are replaced before the listeners are notified, so that they rebuild anything derived only once
+        persons.setPersons(newData.getPersonList());
+        books.setBooks(newData.getBookList());
+        recordChange(BookFaceListener::dataReset);
+    }
+
+
+
+    //// batch operations
+
+    /**
+     * Defers the refreshes of the persons and books changed in place, such as by loans and returns, until the
+     * matching {@link #endBatch()}, so that the UI sees them as a single change to each list.
+     * Additions, removals and replacements are still seen immediately.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        books.beginBatch();
+    }
+
+    /**
+     * Notifies the listeners of the person and book lists of the refreshes deferred since the matching
+     * {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        try {
+            persons.endBatch();
+        } finally {
+            books.endBatch();
+        }
+    }
+
+    //// listener operations
+
+    /**
+     * Registers {@code listener} to be notified after every change to this {@code BookFace}.
+     */
+    public void addListener(BookFaceListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
     }
 
+    /**
+     * Stops notifying {@code listener} of changes to this {@code BookFace}.
+     */
+    public void removeListener(BookFaceListener listener) {
+        listeners.remove(listener);
+    }
 
+    /**
+     * Returns a number that changes whenever the data in this {@code BookFace} changes, so that callers can tell
+     * whether anything changed between two points in time by comparing the numbers.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void recordChange(Consumer<BookFaceListener> notification) {
+        version++;
+        listeners.forEach(notification);
+    }
 
     //// person-level operations
 
@@ -96,12 +196,27 @@ public class BookFace implements ReadOnlyBookFace {
         return books.contains(book);
     }
 
+    /**
+     * Returns the person in BookFace with the given {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        return persons.get(name);
+    }
+
+    /**
+     * Returns the book in BookFace that is equivalent to {@code book}, if any.
+     */
+    public Optional<Book> getBook(Book book) {
+        return books.get(book);
+    }
+
     /**
      * Adds a person to BookFace.
      * The person must not already exist in BookFace.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        recordChange(listener -> listener.personAdded(p));
     }
 
     /**
@@ -111,6 +226,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void addBook(Book book) {
         books.add(book);
+        recordChange(listener -> listener.bookAdded(book));
     }
 
     /**
@@ -120,6 +236,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void deleteBook(Book book) {
         books.delete(book);
+        recordChange(listener -> listener.bookRemoved(book));
     }
 
     /**
@@ -133,6 +250,7 @@ public class BookFace implements ReadOnlyBookFace {
         updateLoanAssociationForEditedPerson(target, editedPerson);
         persons.setPerson(target, editedPerson);
         books.refreshBookListAfterEditingPerson(editedPerson);
+        recordChange(listener -> listener.personReplaced(target, editedPerson));
     }
 
     /**
@@ -143,20 +261,28 @@ public class BookFace implements ReadOnlyBookFace {
     public void setBook(Book target, Book editedBook) {
         requireNonNull(editedBook);
 
-        updateLoanAssociationForEditedBook(target, editedBook);
-        books.setBook(target, editedBook);
-        persons.refreshUserListAfterOperationOnBook(editedBook);
+        // the loanee is refreshed once for moving the loan to the edited book and once more for the edit itself
+        persons.beginBatch();
+        try {
+            updateLoanAssociationForEditedBook(target, editedBook);
+            books.setBook(target, editedBook);
+            persons.refreshUserListAfterOperationOnBook(editedBook);
+        } finally {
+            persons.endBatch();
+        }
+        recordChange(listener -> listener.bookReplaced(target, editedBook));
     }
 
     /**
      * Loans to the person {@code person} in the user list with the book {@code book} in the book list.
      * {@code person} and {@code book} must exist in BookFace.
      */
-    public void loan(Person person, Book book, Date returnDate) {
+    public void loan(Person person, Book book, LocalDate returnDate) {
         CollectionUtil.requireAllNonNull(person, book, returnDate);
         assert !book.isLoaned();
         books.loan(person, book, returnDate);
         persons.loan(person, book);
+        recordChange(listener -> listener.bookLoaned(person, book, returnDate));
     }
 
     /**
@@ -170,6 +296,7 @@ public class BookFace implements ReadOnlyBookFace {
         }
         books.returnLoanedBook(book);
         persons.returnLoanedBook(book);
+        recordChange(listener -> listener.bookReturned(book));
     }
 
     /**
@@ -178,6 +305,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        recordChange(listener -> listener.personRemoved(key));
     }
 
     /**
@@ -187,11 +315,10 @@ public class BookFace implements ReadOnlyBookFace {
         CollectionUtil.requireAllNonNull(currentBook, newBook);
         Optional<Person> loanee = currentBook.getLoanee();
         loanee.ifPresent((p) -> {
-            Date returnDate = currentBook.getReturnDate()
-                    .orElseGet(bookface.commons.util.Date::getFourteenDaysLaterDate);
+            LocalDate returnDate = currentBook.getReturnDate()
+                    .orElseGet(DateUtil::getFourteenDaysLaterDate);
             newBook.loanTo(p, returnDate);
-            p.returnLoanedBook(currentBook);
-            p.addLoanedBook(newBook);
+            persons.returnLoanedBook(currentBook);
             persons.loan(p, newBook);
         });
     }
@@ -204,7 +331,7 @@ public class BookFace implements ReadOnlyBookFace {
         Set<Book> updatedLoanedBook = currentPerson.getLoanedBooksSet();
         for (Book book : updatedLoanedBook) {
             book.loanTo(newPerson, book.getReturnDate()
-                    .orElseGet(bookface.commons.util.Date::getFourteenDaysLaterDate));
+                    .orElseGet(DateUtil::getFourteenDaysLaterDate));
         }
     }
 
@@ -0,0 +1,58 @@
+package bookface.model;
+
+import java.time.LocalDate;
+
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Receives a notification after each successful change to a {@code BookFace}.
+ * All methods do nothing by default, so that implementations only override the changes they are interested in.
+ */
+public interface BookFaceListener {
+
+    /**
+     * Called after {@code person} is added.
+     */
+    default void personAdded(Person person) {}
+
+    /**
+     * Called after {@code person} is removed.
+     */
+    default void personRemoved(Person person) {}
+
+    /**
+     * Called after {@code target} is replaced by {@code editedPerson}.
+     */
+    default void personReplaced(Person target, Person editedPerson) {}
+
+    /**
+     * Called after {@code book} is added.
+     */
+    default void bookAdded(Book book) {}
+
+    /**
+     * Called after {@code book} is removed.
+     */
+    default void bookRemoved(Book book) {}
+
+    /**
+     * Called after {@code target} is replaced by {@code editedBook}.
+     */
+    default void bookReplaced(Book target, Book editedBook) {}
+
+    /**
+     * Called after {@code book} is loaned to {@code person} until {@code returnDate}.
+     */
+    default void bookLoaned(Person person, Book book, LocalDate returnDate) {}
+
+    /**
+     * Called after the loan of {@code book} is returned.
+     */
+    default void bookReturned(Book book) {}
+
+    /**
+     * Called after the whole person list or book list is replaced.
+     */
+    default void dataReset() {}
+}
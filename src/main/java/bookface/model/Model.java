@@ -1,7 +1,10 @@
 package bookface.model;
 
 import java.nio.file.Path;
-import java.util.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import bookface.commons.core.GuiSettings;
@@ -25,26 +28,6 @@ public interface Model {
     /** {@code Predicate} returns true if book is loaned*/
     Predicate<Book> PREDICATE_ALL_LOANED_BOOKS = Book::isLoaned;
 
-    /** {@code Predicate} returns true for all persons with overdue books */
-    Predicate<Person> PREDICATE_OWE_OVERDUE_BOOKS = person -> {
-        if (person.hasBooksOnLoan()) {
-            for (Book book : person.getLoanedBooksSet()) {
-                if (book.isOverdue().orElse(false)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    };
-
-    /** {@code Predicate} returns true for all books due past return date */
-    Predicate<Book> PREDICATE_ALL_OVERDUE_BOOKS = book -> {
-        if (book.isLoaned()) {
-            return book.isOverdue().orElse(false);
-        }
-        return false;
-    };
-
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -55,6 +38,11 @@ public interface Model {
      */
     ReadOnlyUserPrefs getUserPrefs();
 
+    /**
+     * Returns the clock that tells whether loans are overdue.
+     */
+    Clock getClock();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -83,6 +71,34 @@ public interface Model {
     /** Returns the BookFace */
     ReadOnlyBookFace getBookFace();
 
+    /**
+     * Replaces all the persons in BookFace with {@code persons}, as a single change to the person list.
+     * {@code persons} must not contain duplicate persons.
+     */
+    void setPersons(List<Person> persons);
+
+    /**
+     * Replaces all the books in BookFace with {@code books}, as a single change to the book list.
+     * {@code books} must not contain duplicate books.
+     */
+    void setBooks(List<Book> books);
+
+    /**
+     * Returns the current version of BookFace, which changes whenever its data changes.
+     */
+    long getBookFaceVersion();
+
+    /**
+     * Defers the refreshes of the persons and books that change in place, such as by loans and returns, until the
+     * matching {@link #endBatch()}, so that the filtered lists see them as a single change each.
+     */
+    void beginBatch();
+
+    /**
+     * Notifies the filtered lists of the refreshes deferred since the matching {@link #beginBatch()}.
+     */
+    void endBatch();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in BookFace.
      */
@@ -127,13 +143,44 @@ public interface Model {
      * Loans to given person {@code person} from {@code book}.
      * {@code person} and {@code book} must exist in BookFace.
      */
-    void loan(Person person, Book book, Date returnDate);
+    void loan(Person person, Book book, LocalDate returnDate);
 
     /**
      * Returns the {@code book} loan.
      */
     void returnLoanedBook(Book book);
 
+    /**
+     * Returns the books on loan that are past their return date, from the longest overdue.
+     */
+    List<Book> getOverdueBooks();
+
+    /**
+     * Returns the books on loan that are due today or within the next {@code days} days, from the soonest due.
+     */
+    List<Book> getBooksDueWithin(int days);
+
+    /**
+     * Returns the books on loan whose return date is on or after {@code fromDate} and before {@code toDate}, from the
+     * soonest due.
+     */
+    List<Book> getBooksDueBetween(LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Returns the earliest return date of a book on loan that is on or after {@code date}, if any.
+     */
+    Optional<LocalDate> getNextDueDate(LocalDate date);
+
+    /**
+     * Returns the number of books on loan that are past their return date.
+     */
+    int getOverdueBookCount();
+
+    /**
+     * Registers {@code listener} to be notified after every change to BookFace.
+     */
+    void addBookFaceListener(BookFaceListener listener);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -146,6 +193,20 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only the persons whose name contains any of
+     * {@code keywords} as part of a word, ignoring case. If any of the keywords is fuzzy (see
+     * {@code NgramIndex#isFuzzy(String)}), the persons are listed from the closest match to the furthest.
+     */
+    void findPersons(List<String> keywords);
+
+    /**
+     * Updates the filtered person list to show only the {@code limit} persons whose names best match
+     * {@code keywords}, from the best match to the worst. A person matches a keyword if their name contains it as
+     * part of a word, ignoring case, or, for a fuzzy keyword, if a word of their name is close to it.
+     */
+    void findPersons(List<String> keywords, int limit);
+
     /**
      * Adds a book to BookFace records.
      *
@@ -160,4 +221,18 @@ public interface Model {
     void deleteBook(Book book);
 
     void updateFilteredBookList(Predicate<Book> predicate);
+
+    /**
+     * Updates the filter of the filtered book list to show only the books whose title or author contains any of
+     * {@code keywords} as part of a word, ignoring case. If any of the keywords is fuzzy (see
+     * {@code NgramIndex#isFuzzy(String)}), the books are listed from the closest match to the furthest.
+     */
+    void findBooks(List<String> keywords);
+
+    /**
+     * Updates the filtered book list to show only the {@code limit} books whose titles and authors best match
+     * {@code keywords}, from the best match to the worst. A book matches a keyword if its title or author contains
+     * it as part of a word, ignoring case, or, for a fuzzy keyword, if a word of its title or author is close to it.
+     */
+    void findBooks(List<String> keywords, int limit);
 }
@@ -3,17 +3,32 @@ package bookface.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
-import java.util.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import bookface.commons.core.GuiSettings;
 import bookface.commons.core.LogsCenter;
 import bookface.commons.util.CollectionUtil;
+import bookface.commons.util.StringUtil;
 import bookface.model.book.Book;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
+import bookface.model.util.DueDateIndex;
+import bookface.model.util.NgramIndex;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of BookFace data.
@@ -25,25 +40,65 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Book> filteredBooks;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Book> sortedBooks;
+    private final NgramIndex<Name> personIndex = new NgramIndex<>();
+    private final NgramIndex<Book> bookIndex = new NgramIndex<>();
+    private final DueDateIndex<Book> dueDateIndex = new DueDateIndex<>();
+    private final Clock clock;
+    /** The indexes are built when they are first used, so models that are never searched do not build them. */
+    private boolean areIndexesBuilt;
+    /** Repeats the ranked search last shown in each list, whose results are fixed when it runs, if there is one. */
+    private Runnable rankedPersonSearch;
+    private Runnable rankedBookSearch;
 
     /**
-     * Initializes a ModelManager with the given bookFace and userPrefs.
+     * Initializes a ModelManager with the given bookFace and userPrefs, which tells whether loans are overdue by the
+     * system clock.
      */
     public ModelManager(ReadOnlyBookFace bookFace, ReadOnlyUserPrefs userPrefs) {
-        CollectionUtil.requireAllNonNull(bookFace, userPrefs);
+        this(bookFace, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given bookFace and userPrefs, which tells whether loans are overdue by
+     * {@code clock}.
+     */
+    public ModelManager(ReadOnlyBookFace bookFace, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        this(new BookFace(requireNonNull(bookFace)), new UserPrefs(requireNonNull(userPrefs)), clock);
+    }
+
+    /**
+     * Initializes a ModelManager that keeps the given bookFace and userPrefs rather than copies of them.
+     */
+    private ModelManager(BookFace bookFace, UserPrefs userPrefs, Clock clock) {
+        CollectionUtil.requireAllNonNull(bookFace, userPrefs, clock);
 
         logger.fine("Initializing with BookFace: " + bookFace + " and user prefs " + userPrefs);
 
-        this.bookFace = new BookFace(bookFace);
-        this.userPrefs = new UserPrefs(userPrefs);
+        this.bookFace = bookFace;
+        this.userPrefs = userPrefs;
+        this.clock = clock;
         filteredPersons = new FilteredList<>(this.bookFace.getPersonList());
         filteredBooks = new FilteredList<>(this.bookFace.getBookList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedBooks = new SortedList<>(filteredBooks);
+        this.bookFace.addListener(new IndexUpdater());
     }
 
     public ModelManager() {
         this(new BookFace(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager of a deep copy of {@code bookFace}, which shares no persons or books with it, and of
+     * {@code userPrefs}, which tells whether loans are overdue by {@code clock}.
+     */
+    public static ModelManager ofDeepCopy(ReadOnlyBookFace bookFace, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        CollectionUtil.requireAllNonNull(bookFace, userPrefs, clock);
+        return new ModelManager(BookFace.deepCopyOf(bookFace), new UserPrefs(userPrefs), clock);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -57,6 +112,11 @@ public class ModelManager implements Model {
         return userPrefs;
     }
 
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return userPrefs.getGuiSettings();
@@ -91,6 +151,33 @@ public class ModelManager implements Model {
         return bookFace;
     }
 
+    @Override
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        bookFace.setPersons(persons);
+    }
+
+    @Override
+    public void setBooks(List<Book> books) {
+        requireNonNull(books);
+        bookFace.setBooks(books);
+    }
+
+    @Override
+    public long getBookFaceVersion() {
+        return bookFace.getVersion();
+    }
+
+    @Override
+    public void beginBatch() {
+        bookFace.beginBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        bookFace.endBatch();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -142,7 +229,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void loan(Person person, Book book, Date returnDate) {
+    public void loan(Person person, Book book, LocalDate returnDate) {
         CollectionUtil.requireAllNonNull(person, book, returnDate);
         bookFace.loan(person, book, returnDate);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -155,6 +242,47 @@ public class ModelManager implements Model {
         bookFace.returnLoanedBook(book);
     }
 
+    @Override
+    public void addBookFaceListener(BookFaceListener listener) {
+        bookFace.addListener(listener);
+    }
+
+    @Override
+    public List<Book> getOverdueBooks() {
+        buildIndexesIfNeeded();
+        return dueDateIndex.getDueBefore(today().toEpochDay());
+    }
+
+    @Override
+    public List<Book> getBooksDueWithin(int days) {
+        LocalDate today = today();
+        return getBooksDueBetween(today, today.plusDays(days + 1L));
+    }
+
+    @Override
+    public List<Book> getBooksDueBetween(LocalDate fromDate, LocalDate toDate) {
+        CollectionUtil.requireAllNonNull(fromDate, toDate);
+        buildIndexesIfNeeded();
+        return dueDateIndex.getDueBetween(fromDate.toEpochDay(), toDate.toEpochDay());
+    }
+
+    @Override
+    public Optional<LocalDate> getNextDueDate(LocalDate date) {
+        requireNonNull(date);
+        buildIndexesIfNeeded();
+        return dueDateIndex.getNextDueTime(date.toEpochDay()).map(LocalDate::ofEpochDay);
+    }
+
+    @Override
+    public int getOverdueBookCount() {
+        buildIndexesIfNeeded();
+        return dueDateIndex.countDueBefore(today().toEpochDay());
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -163,7 +291,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     /**
@@ -172,21 +300,139 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Book> getFilteredBookList() {
-        return filteredBooks;
+        return sortedBooks;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        // the comparator of a ranked search can only compare the results of that search
+        sortedPersons.setComparator(null);
+        rankedPersonSearch = null;
         filteredPersons.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredBookList(Predicate<Book> predicate) {
         requireNonNull(predicate);
+        // the comparator of a ranked search can only compare the results of that search
+        sortedBooks.setComparator(null);
+        rankedBookSearch = null;
         filteredBooks.setPredicate(predicate);
     }
 
+    @Override
+    public void findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.stream().anyMatch(NgramIndex::isFuzzy)) {
+            findPersons(keywords, Integer.MAX_VALUE);
+            return;
+        }
+        List<String> foldedKeywords = foldKeywords(keywords);
+        Predicate<Person> isMatch = person -> containsAny(person.getName().getFoldedName(), foldedKeywords);
+        if (!foldedKeywords.stream().allMatch(NgramIndex::canNarrowDown)) {
+            // a short keyword is part of so many names that the index would return almost every person
+            updateFilteredPersonList(isMatch);
+            return;
+        }
+
+        buildIndexesIfNeeded();
+        IndexedSearch<Person> search = new IndexedSearch<>(isMatch);
+        for (Name candidate : personIndex.getCandidates(foldedKeywords)) {
+            bookFace.getPerson(candidate).filter(isMatch).ifPresent(search::addMatch);
+        }
+        updateFilteredPersonList(search);
+        search.markApplied();
+    }
+
+    @Override
+    public void findPersons(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        buildIndexesIfNeeded();
+        Map<Name, Integer> ranks = getRanks(keywords.stream().anyMatch(NgramIndex::isFuzzy)
+                ? personIndex.getClosestMatches(keywords, limit)
+                : personIndex.getBestMatches(keywords, limit));
+        updateFilteredPersonList(person -> ranks.containsKey(person.getName()));
+        sortedPersons.setComparator(Comparator.comparing(person -> ranks.get(person.getName())));
+        rankedPersonSearch = () -> findPersons(keywords, limit);
+    }
+
+    @Override
+    public void findBooks(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.stream().anyMatch(NgramIndex::isFuzzy)) {
+            findBooks(keywords, Integer.MAX_VALUE);
+            return;
+        }
+        List<String> foldedKeywords = foldKeywords(keywords);
+        Predicate<Book> isMatch = book -> containsAny(book.getTitle().getFoldedTitle(), foldedKeywords)
+                || containsAny(book.getAuthor().getFoldedAuthor(), foldedKeywords);
+        if (!foldedKeywords.stream().allMatch(NgramIndex::canNarrowDown)) {
+            // as in findPersons(List), short keywords are checked against every book instead
+            updateFilteredBookList(isMatch);
+            return;
+        }
+
+        buildIndexesIfNeeded();
+        IndexedSearch<Book> search = new IndexedSearch<>(isMatch);
+        for (Book candidate : bookIndex.getCandidates(foldedKeywords)) {
+            bookFace.getBook(candidate).filter(isMatch).ifPresent(search::addMatch);
+        }
+        updateFilteredBookList(search);
+        search.markApplied();
+    }
+
+    @Override
+    public void findBooks(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        buildIndexesIfNeeded();
+        Map<Book, Integer> ranks = getRanks(keywords.stream().anyMatch(NgramIndex::isFuzzy)
+                ? bookIndex.getClosestMatches(keywords, limit)
+                : bookIndex.getBestMatches(keywords, limit));
+        updateFilteredBookList(ranks::containsKey);
+        sortedBooks.setComparator(Comparator.comparing(ranks::get));
+        rankedBookSearch = () -> findBooks(keywords, limit);
+    }
+
+    /**
+     * Returns {@code keywords} with their case folded by {@link StringUtil#foldCase(String)}, so that they are folded
+     * only once per search rather than once for every item that is checked against them.
+     */
+    private static List<String> foldKeywords(List<String> keywords) {
+        List<String> foldedKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            if (!trimmedKeyword.isEmpty()) {
+                foldedKeywords.add(StringUtil.foldCase(trimmedKeyword));
+            }
+        }
+        return foldedKeywords;
+    }
+
+    /**
+     * Returns true if {@code foldedText} contains any of {@code foldedKeywords}. As the keywords are single words,
+     * this is the same as {@link StringUtil#containsPartialWordIgnoreCase(String, String)} on the unfolded strings.
+     */
+    private static boolean containsAny(String foldedText, List<String> foldedKeywords) {
+        for (String foldedKeyword : foldedKeywords) {
+            if (foldedText.contains(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the position of each of {@code rankedKeys} in the list.
+     */
+    private static <K> Map<K, Integer> getRanks(List<K> rankedKeys) {
+        Map<K, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedKeys.size(); i++) {
+            ranks.put(rankedKeys.get(i), i);
+        }
+        return ranks;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -203,8 +449,163 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return bookFace.equals(other.bookFace)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
-                && filteredBooks.equals(other.filteredBooks);
+                && sortedPersons.equals(other.sortedPersons)
+                && sortedBooks.equals(other.sortedBooks);
+    }
+
+    //=========== Search Indexes =============================================================================
+
+    private void buildIndexesIfNeeded() {
+        if (areIndexesBuilt) {
+            return;
+        }
+        personIndex.clear();
+        bookFace.getPersonList().forEach(this::indexPerson);
+        bookIndex.clear();
+        bookFace.getBookList().forEach(this::indexBook);
+        dueDateIndex.clear();
+        bookFace.getBookList().forEach(this::indexLoan);
+        areIndexesBuilt = true;
+    }
+
+    private void indexPerson(Person person) {
+        personIndex.add(person.getName(), person.getName().fullName);
+    }
+
+    private void indexBook(Book book) {
+        bookIndex.add(book, book.getTitle().bookTitle, book.getAuthor().bookAuthor);
+    }
+
+    private void indexLoan(Book book) {
+        if (book.isLoaned()) {
+            book.getReturnDate().ifPresent(returnDate -> dueDateIndex.add(book, returnDate.toEpochDay()));
+        }
+    }
+
+    /**
+     * Runs {@code rankedSearch} again, if there is one, so that edited items keep their place in its results.
+     */
+    private static void repeat(Runnable rankedSearch) {
+        if (rankedSearch != null) {
+            rankedSearch.run();
+        }
     }
 
+    /**
+     * Shows the persons or books found through a search index, which are looked up by identity while the list is
+     * filtered rather than checked against the keywords one by one.
+     * Once the list is filtered, the items it checks again are the ones added or edited since, which the search did
+     * not see, so they are checked against the keywords in full.
+     */
+    private static class IndexedSearch<T> implements Predicate<T> {
+        private final Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Predicate<T> isMatch;
+        private boolean isApplied = false;
+
+        IndexedSearch(Predicate<T> isMatch) {
+            this.isMatch = isMatch;
+        }
+
+        void addMatch(T item) {
+            matches.add(item);
+        }
+
+        /**
+         * Marks the list as filtered by this search, so that the items checked from now on are checked in full.
+         */
+        void markApplied() {
+            isApplied = true;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return matches.contains(item) || (isApplied && isMatch.test(item));
+        }
+    }
+
+    /**
+     * Keeps the search indexes and the due date index, once they are built, up to date with every change to the
+     * persons and books, and the results of ranked searches with every edit.
+     * Editing a person keeps their books on loan until the same dates, so it does not change the due date index.
+     */
+    private class IndexUpdater implements BookFaceListener {
+        @Override
+        public void personAdded(Person person) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            indexPerson(person);
+        }
+
+        @Override
+        public void personRemoved(Person person) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            personIndex.remove(person.getName());
+        }
+
+        @Override
+        public void personReplaced(Person target, Person editedPerson) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            personIndex.remove(target.getName());
+            indexPerson(editedPerson);
+            repeat(rankedPersonSearch);
+        }
+
+        @Override
+        public void bookAdded(Book book) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            indexBook(book);
+        }
+
+        @Override
+        public void bookRemoved(Book book) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            bookIndex.remove(book);
+            dueDateIndex.remove(book);
+        }
+
+        @Override
+        public void bookReplaced(Book target, Book editedBook) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            bookIndex.remove(target);
+            indexBook(editedBook);
+            dueDateIndex.remove(target);
+            indexLoan(editedBook);
+            repeat(rankedBookSearch);
+        }
+
+        @Override
+        public void bookLoaned(Person person, Book book, LocalDate returnDate) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            dueDateIndex.add(book, returnDate.toEpochDay());
+        }
+
+        @Override
+        public void bookReturned(Book book) {
+            if (!areIndexesBuilt) {
+                return;
+            }
+            dueDateIndex.remove(book);
+        }
+
+        @Override
+        public void dataReset() {
+            // rebuilt when they are next used, as a ranked search below does
+            areIndexesBuilt = false;
+            repeat(rankedPersonSearch);
+            repeat(rankedBookSearch);
+        }
+    }
 }
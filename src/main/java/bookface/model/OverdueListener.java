@@ -0,0 +1,25 @@
+package bookface.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import bookface.model.book.Book;
+
+/**
+ * Receives the changes in which books on loan are overdue, as found by an {@code OverdueSweeper}.
+ * All methods do nothing by default, so that implementations only override the changes they are interested in.
+ */
+public interface OverdueListener {
+
+    /**
+     * Called after {@code books}, which were on loan and not overdue at the last sweep, become overdue.
+     * {@code sweepDate} is the day of the sweep that found them.
+     */
+    default void booksBecameOverdue(List<Book> books, LocalDate sweepDate) {}
+
+    /**
+     * Called after the number of overdue books changes to {@code overdueBookCount}, whether because books became
+     * overdue or because overdue books were returned, edited or deleted.
+     */
+    default void overdueBookCountChanged(int overdueBookCount) {}
+}
@@ -0,0 +1,176 @@
+package bookface.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.util.CollectionUtil;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Tells {@code OverdueListener}s when books on loan become overdue, without rescanning the loans.
+ * Once started, the sweeper sleeps until the day after the next return date in the model's due date index, when that
+ * book becomes overdue, then sweeps only the books due since the last sweep. Changes to the loans in the model update
+ * the overdue count and reschedule the next sweep, so that an earlier return date is not missed.
+ *
+ * The model is not thread-safe, so the background scheduler only decides when to sweep: every sweep, and every
+ * notification of the listeners, runs on the {@code modelExecutor}, e.g. the JavaFX application thread.
+ */
+public class OverdueSweeper implements BookFaceListener {
+
+    private static final Logger logger = LogsCenter.getLogger(OverdueSweeper.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final List<OverdueListener> listeners = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextSweep;
+    private LocalDate lastSweepDate;
+    private int overdueBookCount;
+
+    /**
+     * Creates a sweeper of the loans in {@code model}, which must tell whether loans are overdue by {@code clock}.
+     * The sweeper does not sweep on its own until {@link #start()} is called.
+     */
+    public OverdueSweeper(Model model, Clock clock, Executor modelExecutor) {
+        CollectionUtil.requireAllNonNull(model, clock, modelExecutor);
+        this.model = model;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        lastSweepDate = LocalDate.now(clock);
+        overdueBookCount = model.getOverdueBookCount();
+        model.addBookFaceListener(this);
+    }
+
+    /**
+     * Registers {@code listener} to be notified of the changes found by later sweeps.
+     */
+    public void addListener(OverdueListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the number of overdue books as of the last sweep or change to the loans.
+     */
+    public int getOverdueBookCount() {
+        return overdueBookCount;
+    }
+
+    /**
+     * Starts sweeping on a background scheduler whenever the next book becomes overdue.
+     */
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BookFace overdue sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextSweep();
+    }
+
+    /**
+     * Stops sweeping on the background scheduler. Sweeps already handed to the {@code modelExecutor} still run.
+     */
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        nextSweep = null;
+    }
+
+    /**
+     * Finds the books that became overdue since the last sweep and notifies the listeners of them, then schedules
+     * the next sweep. This must run on the thread that owns the model.
+     */
+    public void sweep() {
+        LocalDate today = LocalDate.now(clock);
+        // a book is overdue from the day after its return date
+        List<Book> newlyOverdueBooks = model.getBooksDueBetween(lastSweepDate, today);
+        lastSweepDate = today;
+        if (!newlyOverdueBooks.isEmpty()) {
+            logger.info(newlyOverdueBooks.size() + " books became overdue");
+            listeners.forEach(listener -> listener.booksBecameOverdue(newlyOverdueBooks, today));
+        }
+        updateOverdueBookCount();
+        scheduleNextSweep();
+    }
+
+    private void updateOverdueBookCount() {
+        int newOverdueBookCount = model.getOverdueBookCount();
+        if (newOverdueBookCount == overdueBookCount) {
+            return;
+        }
+        overdueBookCount = newOverdueBookCount;
+        listeners.forEach(listener -> listener.overdueBookCountChanged(newOverdueBookCount));
+    }
+
+    private void scheduleNextSweep() {
+        if (scheduler == null) {
+            return;
+        }
+        if (nextSweep != null) {
+            nextSweep.cancel(false);
+            nextSweep = null;
+        }
+        Optional<LocalDate> nextDueDate = model.getNextDueDate(lastSweepDate);
+        if (nextDueDate.isEmpty()) {
+            return;
+        }
+        long nextOverdueTime = nextDueDate.get().plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        long delay = Math.max(0, nextOverdueTime - clock.millis());
+        nextSweep = scheduler.schedule(() -> modelExecutor.execute(this::sweep), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates the overdue count and the next sweep after a change to the loans, which may have returned an overdue
+     * book or loaned one out until an earlier date than the next sweep.
+     */
+    private void loansChanged() {
+        updateOverdueBookCount();
+        scheduleNextSweep();
+    }
+
+    @Override
+    public void bookRemoved(Book book) {
+        loansChanged();
+    }
+
+    @Override
+    public void bookReplaced(Book target, Book editedBook) {
+        loansChanged();
+    }
+
+    @Override
+    public void bookLoaned(Person person, Book book, LocalDate returnDate) {
+        loansChanged();
+    }
+
+    @Override
+    public void bookReturned(Book book) {
+        loansChanged();
+    }
+
+    @Override
+    public void dataReset() {
+        loansChanged();
+    }
+}
@@ -2,6 +2,7 @@ package bookface.model;
 
 import java.nio.file.Path;
 
+import bookface.commons.core.DataFormat;
 import bookface.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getBookFaceFilePath();
 
+    boolean isJournalEnabled();
+
+    DataFormat getDataFormat();
+
 }
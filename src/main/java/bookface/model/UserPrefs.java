@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import bookface.commons.core.DataFormat;
 import bookface.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path bookFaceFilePath = Paths.get("data" , "bookface.json");
+    private boolean isJournalEnabled = false;
+    private DataFormat dataFormat = DataFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setBookFaceFilePath(newUserPrefs.getBookFaceFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setDataFormat(newUserPrefs.getDataFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.bookFaceFilePath = bookFaceFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,19 +90,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && bookFaceFilePath.equals(o.bookFaceFilePath);
+                && bookFaceFilePath.equals(o.bookFaceFilePath)
+                && isJournalEnabled == o.isJournalEnabled
+                && dataFormat == o.dataFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, bookFaceFilePath);
+        return Objects.hash(guiSettings, bookFaceFilePath, isJournalEnabled, dataFormat);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : ").append(guiSettings)
-                .append("\nLocal data file location : ").append(bookFaceFilePath);
+                .append("\nLocal data file location : ").append(bookFaceFilePath)
+                .append("\nJournal enabled : ").append(isJournalEnabled)
+                .append("\nData format : ").append(dataFormat);
         return sb.toString();
     }
 
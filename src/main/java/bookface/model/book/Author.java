@@ -2,7 +2,11 @@ package bookface.model.book;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.IntPredicate;
+
 import bookface.commons.util.AppUtil;
+import bookface.commons.util.StringUtil;
+import bookface.commons.util.ValidationUtil;
 
 /**
  * Represents an Author of a Book.
@@ -19,8 +23,13 @@ public class Author {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final IntPredicate AUTHOR_CHARACTER = c -> ValidationUtil.isAlphanumeric(c) || c == ' ';
+
     public final String bookAuthor;
 
+    /** The case-folded author, computed when it is first needed. */
+    private String foldedAuthor;
+
     /**
      * Constructs an {@code Author}.
      *
@@ -34,9 +43,20 @@ public class Author {
 
     /**
      * Returns true if a given string is a valid title.
+     * Equivalent to matching {@code VALIDATION_REGEX}, but without the cost of a regular expression.
      */
     public static boolean isValidAuthor(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, ValidationUtil::isAlphanumeric, AUTHOR_CHARACTER);
+    }
+
+    /**
+     * Returns the author with its case folded by {@link StringUtil#foldCase(String)}, for matching search keywords.
+     */
+    public String getFoldedAuthor() {
+        if (foldedAuthor == null) {
+            foldedAuthor = StringUtil.foldCase(bookAuthor);
+        }
+        return foldedAuthor;
     }
 
     @Override
@@ -1,11 +1,11 @@
 package bookface.model.book;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.Optional;
 
 import bookface.commons.util.CollectionUtil;
+import bookface.commons.util.DateUtil;
 import bookface.model.person.Person;
 
 /**
@@ -17,7 +17,7 @@ public class Book {
     private final Author author;
     private Person loanee = null;
 
-    private Date returnDate = null;
+    private LocalDate returnDate = null;
 
     /**
      * Every field must be present and not null. This is an overloaded constructor used in JsonAdaptedBook
@@ -33,7 +33,7 @@ public class Book {
      * Every field must be present and not null. This is an overloaded constructor used in JsonAdaptedBook
      * if book has a return date.
      */
-    public Book(Title title, Author author, Date returnDate) {
+    public Book(Title title, Author author, LocalDate returnDate) {
         CollectionUtil.requireAllNonNull(title, author, returnDate);
         this.title = title;
         this.author = author;
@@ -48,13 +48,13 @@ public class Book {
         return author;
     }
 
-    public Optional<Date> getReturnDate() {
+    public Optional<LocalDate> getReturnDate() {
         return Optional.ofNullable(returnDate);
     }
 
     public Optional<String> getReturnDateString() {
         return Optional.ofNullable(returnDate)
-                .map(x -> "Return by: " + (new SimpleDateFormat("yyyy-MM-dd")).format(returnDate));
+                .map(date -> "Return by: " + DateUtil.format(date));
     }
 
     public Optional<Person> getLoanee() {
@@ -81,7 +81,7 @@ public class Book {
      *
      * @param loanee the person borrowing this book
      */
-    public void loanTo(Person loanee, Date returnDate) {
+    public void loanTo(Person loanee, LocalDate returnDate) {
         if (loanee != null) {
             this.loanee = loanee;
             this.returnDate = returnDate;
@@ -98,11 +98,12 @@ public class Book {
     }
 
     /**
-     * Checks if the book is overdue.
+     * Checks if the book is overdue, which it is from the day after its return date.
      * @return True if book is overdue, false otherwise
      */
     public Optional<Boolean> isOverdue() {
-        return this.getReturnDate().map((x) -> new Date().after(x));
+        LocalDate today = LocalDate.now();
+        return this.getReturnDate().map(today::isAfter);
     }
 
     /**
@@ -126,8 +127,9 @@ public class Book {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, author);
+        // the title is hashed case-insensitively to stay consistent with equals, folded as equalsIgnoreCase compares
+        // it so that the hash does not depend on the default locale
+        return Objects.hash(title.getFoldedTitle(), author.getFoldedAuthor());
     }
 
     @Override
@@ -2,32 +2,50 @@ package bookface.model.book;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import bookface.commons.util.CollectionUtil;
 import bookface.model.book.exceptions.BookNotFoundException;
 import bookface.model.book.exceptions.DuplicateBookException;
 import bookface.model.person.Person;
+import bookface.model.util.RefreshableObservableList;
+import bookface.model.util.UniquenessValidator;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
  * The BookList class represents the list of books managed by BookFace.
+ * Alongside the observable list, the position of every book is indexed by its identity (case-insensitive title and
+ * author, as defined by {@code Book#equals(Object)}) so that lookups and in-place refreshes take constant time.
+ * Books that change in place, such as when they are loaned, are refreshed as updates of the list, and the refreshes
+ * made between {@link #beginBatch()} and {@link #endBatch()} reach the UI as a single change.
  */
 public class BookList implements Iterable<Book> {
-    private final ObservableList<Book> internalList = FXCollections.observableArrayList();
-    //private final ObservableList<Book> internalList = FXCollections.observableArrayList(bookList); //doesnt work?
+    private final RefreshableObservableList<Book> internalList = new RefreshableObservableList<>(this::indexOf);
     private final ObservableList<Book> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Book, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent book as the given argument.
      */
     public boolean contains(Book toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the book in the list that is equivalent to {@code book}, if any.
+     */
+    public Optional<Book> get(Book book) {
+        requireNonNull(book);
+        return Optional.ofNullable(positions.get(book)).map(internalList::get);
     }
 
     /**
@@ -39,6 +57,7 @@ public class BookList implements Iterable<Book> {
         if (contains(book)) {
             throw new DuplicateBookException();
         }
+        positions.put(book, internalList.size());
         internalList.add(book);
     }
 
@@ -50,7 +69,7 @@ public class BookList implements Iterable<Book> {
     public void setBook(Book target, Book editedBook) {
         CollectionUtil.requireAllNonNull(target, editedBook);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BookNotFoundException();
         }
@@ -59,6 +78,8 @@ public class BookList implements Iterable<Book> {
             throw new DuplicateBookException();
         }
 
+        positions.remove(target);
+        positions.put(editedBook, index);
         internalList.set(index, editedBook);
     }
 
@@ -68,9 +89,13 @@ public class BookList implements Iterable<Book> {
      */
     public void delete(Book book) {
         requireNonNull(book);
-        if (!internalList.remove(book)) {
+        int index = indexOf(book);
+        if (index == -1) {
             throw new BookNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(book);
+        reindexFrom(index);
     }
 
     /**
@@ -78,10 +103,14 @@ public class BookList implements Iterable<Book> {
      */
     public void refreshBookListAfterDeletingPerson(Person person) {
         requireNonNull(person);
-        for (Book book : person.getLoanedBooksSet()) {
-            book.markBookAsReturned();
-            int index = internalList.indexOf(book);
-            internalList.set(index, book);
+        beginBatch();
+        try {
+            for (Book book : person.getLoanedBooksSet()) {
+                book.markBookAsReturned();
+                internalList.refresh(indexOf(book));
+            }
+        } finally {
+            endBatch();
         }
     }
 
@@ -90,15 +119,35 @@ public class BookList implements Iterable<Book> {
      */
     public void refreshBookListAfterEditingPerson(Person person) {
         requireNonNull(person);
-        for (Book book : person.getLoanedBooksSet()) {
-            int index = internalList.indexOf(book);
-            internalList.set(index, book);
+        beginBatch();
+        try {
+            for (Book book : person.getLoanedBooksSet()) {
+                internalList.refresh(indexOf(book));
+            }
+        } finally {
+            endBatch();
         }
     }
 
+    /**
+     * Defers the refreshes of books changed in place until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the books refreshed since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     public void setBooks(BookList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
@@ -111,6 +160,8 @@ public class BookList implements Iterable<Book> {
             throw new DuplicateBookException();
         }
         internalList.setAll(books);
+        positions.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -137,28 +188,37 @@ public class BookList implements Iterable<Book> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of {@code book} in the list, or -1 if it is not in the list.
+     */
+    private int indexOf(Book book) {
+        Integer index = positions.get(book);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Re-records the positions of all books from {@code fromIndex} onwards, after the list has shifted.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code books} contains only unique books.
      */
     private boolean booksAreUnique(List<Book> books) {
-        for (int i = 0; i < books.size() - 1; i++) {
-            for (int j = i + 1; j < books.size(); j++) {
-                if (books.get(i).equals(books.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new UniquenessValidator<Book>(Function.identity()).addAll(books).isUnique();
     }
 
     /**
      * Loans to a person {@code person} a book {@code book} with the given {@code returnDate}.
      */
-    public void loan(Person person, Book book, Date returnDate) {
+    public void loan(Person person, Book book, LocalDate returnDate) {
         CollectionUtil.requireAllNonNull(person, book, returnDate);
         book.loanTo(person, returnDate);
-        int index = internalList.indexOf(book);
-        internalList.set(index, book);
+        internalList.refresh(indexOf(book));
     }
 
     /**
@@ -167,7 +227,6 @@ public class BookList implements Iterable<Book> {
     public void returnLoanedBook(Book book) {
         CollectionUtil.requireAllNonNull(book);
         book.markBookAsReturned();
-        int index = internalList.indexOf(book);
-        internalList.set(index, book);
+        internalList.refresh(indexOf(book));
     }
 }
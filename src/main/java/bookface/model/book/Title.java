@@ -2,7 +2,11 @@ package bookface.model.book;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.IntPredicate;
+
 import bookface.commons.util.AppUtil;
+import bookface.commons.util.StringUtil;
+import bookface.commons.util.ValidationUtil;
 
 /**
  * Represents a title of the Book.
@@ -20,8 +24,15 @@ public class Title {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}\\p{Punct}][\\p{Alnum}\\p{Punct} ]*";
 
+    private static final IntPredicate FIRST_TITLE_CHARACTER = c ->
+            ValidationUtil.isAlphanumeric(c) || ValidationUtil.isPunctuation(c);
+    private static final IntPredicate TITLE_CHARACTER = c -> FIRST_TITLE_CHARACTER.test(c) || c == ' ';
+
     public final String bookTitle;
 
+    /** The case-folded title, computed when it is first needed. */
+    private String foldedTitle;
+
     /**
      * Constructs a {@code Title}.
      *
@@ -35,9 +46,20 @@ public class Title {
 
     /**
      * Returns true if a given string is a valid title.
+     * Equivalent to matching {@code VALIDATION_REGEX}, but without the cost of a regular expression.
      */
     public static boolean isValidTitle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, FIRST_TITLE_CHARACTER, TITLE_CHARACTER);
+    }
+
+    /**
+     * Returns the title with its case folded by {@link StringUtil#foldCase(String)}, for matching search keywords.
+     */
+    public String getFoldedTitle() {
+        if (foldedTitle == null) {
+            foldedTitle = StringUtil.foldCase(bookTitle);
+        }
+        return foldedTitle;
     }
 
     @Override
@@ -2,7 +2,11 @@ package bookface.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.IntPredicate;
+
 import bookface.commons.util.AppUtil;
+import bookface.commons.util.StringUtil;
+import bookface.commons.util.ValidationUtil;
 
 
 
@@ -21,8 +25,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final IntPredicate NAME_CHARACTER = c -> ValidationUtil.isAlphanumeric(c) || c == ' ';
+
     public final String fullName;
 
+    /** The case-folded name, computed when it is first needed. */
+    private String foldedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -36,12 +45,23 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching {@code VALIDATION_REGEX}, but without the cost of a regular expression.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, ValidationUtil::isAlphanumeric, NAME_CHARACTER);
     }
 
 
+    /**
+     * Returns the name with its case folded by {@link StringUtil#foldCase(String)}, for matching search keywords.
+     */
+    public String getFoldedName() {
+        if (foldedName == null) {
+            foldedName = StringUtil.foldCase(fullName);
+        }
+        return foldedName;
+    }
+
     @Override
     public String toString() {
         return fullName;
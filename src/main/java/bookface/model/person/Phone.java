@@ -3,6 +3,7 @@ package bookface.model.person;
 import static java.util.Objects.requireNonNull;
 
 import bookface.commons.util.AppUtil;
+import bookface.commons.util.ValidationUtil;
 
 
 
@@ -32,9 +33,10 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Equivalent to matching {@code VALIDATION_REGEX}, but without the cost of a regular expression.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() >= 3 && ValidationUtil.matches(test, ValidationUtil::isDigit, ValidationUtil::isDigit);
     }
 
     @Override
@@ -2,14 +2,18 @@ package bookface.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import bookface.commons.util.CollectionUtil;
 import bookface.model.book.Book;
 import bookface.model.person.exceptions.DuplicatePersonException;
 import bookface.model.person.exceptions.PersonNotFoundException;
+import bookface.model.util.RefreshableObservableList;
+import bookface.model.util.UniquenessValidator;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -20,22 +24,35 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The position of every person is indexed by {@code Name}, and the loanee
+ * of every loaned {@code Book} is indexed by the book, so that lookups and loan updates do not scan the list.
+ * Persons whose loans change are refreshed as updates of the list, and the refreshes made between
+ * {@link #beginBatch()} and {@link #endBatch()} reach the UI as a single change.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final RefreshableObservableList<Person> internalList = new RefreshableObservableList<>(this::indexOf);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private final Map<Book, Person> loanees = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(positions.get(name)).map(internalList::get);
     }
 
     /**
@@ -47,6 +64,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
+        recordLoans(toAdd);
         internalList.add(toAdd);
     }
 
@@ -58,7 +77,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,6 +86,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        forgetLoans(target);
+        recordLoans(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -79,14 +102,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getName());
+        forgetLoans(toRemove);
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        loanees.clear();
+        loanees.putAll(replacement.loanees);
     }
 
     /**
@@ -100,6 +132,10 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        positions.clear();
+        loanees.clear();
+        reindexFrom(0);
+        persons.forEach(this::recordLoans);
     }
 
     /**
@@ -130,14 +166,45 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+        return new UniquenessValidator<>(Person::getName).addAll(persons).isUnique();
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-records the positions of all persons from {@code fromIndex} onwards, after the list has shifted.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Records {@code person} as the loanee of every book it has on loan.
+     */
+    private void recordLoans(Person person) {
+        for (Book book : person.getLoanedBooksSet()) {
+            loanees.put(book, person);
+        }
+    }
+
+    /**
+     * Removes the loanee records of every book {@code person} has on loan.
+     */
+    private void forgetLoans(Person person) {
+        for (Book book : person.getLoanedBooksSet()) {
+            loanees.remove(book, person);
         }
-        return true;
     }
 
     /**
@@ -146,8 +213,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void loan(Person person, Book book) {
         CollectionUtil.requireAllNonNull(person, book);
         person.addLoanedBook(book);
-        int index = internalList.indexOf(person);
-        internalList.set(index, person);
+        loanees.put(book, person);
+        internalList.refresh(positions.get(person.getName()));
     }
 
     /**
@@ -155,12 +222,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void refreshUserListAfterOperationOnBook(Book book) {
         CollectionUtil.requireAllNonNull(book);
-        Optional<Person> person = book.getLoanee();
-        person.ifPresent((p) -> {
+        Person person = loanees.get(book);
+        if (person != null) {
             assert book.isLoaned();
-            int index = internalList.indexOf(p);
-            internalList.set(index, p);
-        });
+            internalList.refresh(positions.get(person.getName()));
+        }
     }
 
     /**
@@ -168,15 +234,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void returnLoanedBook(Book book) {
         CollectionUtil.requireAllNonNull(book);
-        for (int i = 0; i < internalList.size(); i++) {
-            //todo this for-loop is inefficient, try to return loan from person without a loop
-            Person person = internalList.get(i);
-            if (person.hasPersonLoanedThisBook(book)) {
-                person.returnLoanedBook(book);
-                int index = internalList.indexOf(person);
-                internalList.set(index, person);
-                break;
-            }
+        Person person = loanees.remove(book);
+        if (person == null) {
+            return;
         }
+        person.returnLoanedBook(book);
+        internalList.refresh(positions.get(person.getName()));
+    }
+
+    /**
+     * Defers the refreshes of persons whose loans change until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the persons refreshed since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 }
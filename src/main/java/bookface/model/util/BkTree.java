@@ -0,0 +1,119 @@
+package bookface.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A BK-tree of words, which finds the words within a Levenshtein distance of a query word without comparing the
+ * query against every word. Each child of a node is keyed by its distance from the node, so by the triangle
+ * inequality only the children whose key is within the maximum distance of the query's distance from the node
+ * can contain a match.
+ *
+ * Words cannot be removed from the tree; a tree that has collected too many unwanted words should be rebuilt.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the tree.
+     *
+     * @return true if {@code word} was not in the tree already.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = getDistance(word, node.word);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} of {@code query}, each with its distance from {@code query}.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = getDistance(query, node.word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * single-character insertions, deletions and substitutions that turn one into the other.
+     */
+    public static int getDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package bookface.model.util;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import bookface.commons.util.AppUtil;
+import bookface.model.BookFace;
+import bookface.model.book.Author;
+import bookface.model.book.Book;
+import bookface.model.book.Title;
+import bookface.model.person.Email;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+import bookface.model.person.Phone;
+import bookface.model.tag.Tag;
+
+/**
+ * Generates synthetic BookFaces of any size for load and scale testing. The same seed, counts, ratios and
+ * {@code today} always give the same BookFace.
+ *
+ * Names and titles are made of common words, and are unique without any bookkeeping: each is a different
+ * combination of words, chosen by the position of the person or book. A few authors write most of the books and a
+ * few tags are on most of the persons, following a Zipf distribution. The first {@code loanRatio} of the books are
+ * on loan, spread evenly across the persons, and {@code overdueRatio} of those are overdue.
+ *
+ * Each person and book is generated from its position alone, so {@link #getPersons()} and
+ * {@link #getAvailableBooks()} generate them only as they are asked for, and can be streamed to a file without
+ * holding the whole BookFace in memory.
+ */
+public class BookFaceGenerator {
+
+    public static final double DEFAULT_LOAN_RATIO = 0.1;
+    public static final double DEFAULT_OVERDUE_RATIO = 0.2;
+    public static final int DEFAULT_TAG_COUNT = 10;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei",
+        "Hafiz", "Priya", "Wei", "Siti", "John", "Sarah", "Ahmad", "Grace", "Kumar", "Ling", "Michael", "Nurul",
+        "Rachel", "Daniel", "Aisha", "Jun", "Emily", "Ravi", "Hui", "James", "Fatimah", "Kevin", "Olivia"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Lee", "Chua", "Goh", "Ong", "Teo", "Koh", "Rahman", "Singh", "Pillai", "Smith",
+        "Brown", "Chen", "Ho", "Low", "Sim", "Yusof", "Menon", "Fernandez", "Chong", "Quek"};
+    /** The most middle names in a generated name, after which names are numbered instead. */
+    private static final int MAX_MIDDLE_NAMES = 2;
+
+    private static final String[] TITLE_TEMPLATES = {"The %s %s of %s", "A %s %s for %s", "%3$s and the %s %s",
+        "%3$s: The %s %s"};
+    private static final String[] TITLE_ADJECTIVES = {"Silent", "Hidden", "Last", "Broken", "Golden", "Quiet",
+        "Haunted", "Lost", "Secret", "Burning", "Endless", "Forgotten", "Crimson", "Distant", "Little", "Winter",
+        "Wild", "Final", "Bright", "Hollow"};
+    private static final String[] TITLE_NOUNS = {"River", "House", "Garden", "Kingdom", "Letter", "Island", "Road",
+        "Night", "Forest", "Promise", "Mirror", "Storm", "City", "Song", "Shadow", "Harbour", "Journey", "Library",
+        "Mountain", "Algorithm"};
+    private static final String[] TITLE_SUBJECTS = {"Time", "Memory", "Tomorrow", "the Sea", "Strangers",
+        "Beginners", "Everyone", "the Heart", "Singapore", "Programmers", "Dreamers", "the North", "Ashes",
+        "the Stars", "Children", "Glass", "Thieves", "Winter", "Kings", "Salt"};
+
+    private static final String[] TAG_WORDS = {"friends", "colleagues", "student", "staff", "neighbours", "family",
+        "classmates", "vip", "alumni", "faculty", "visitor", "member", "volunteer", "researcher", "child"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "u.nus.edu", "yahoo.com.sg"};
+
+    private static final int MAX_TAGS_PER_PERSON = 3;
+    private static final int BOOKS_PER_AUTHOR = 8;
+    private static final int MAX_LOAN_DAYS = 28;
+    private static final int MAX_OVERDUE_DAYS = 60;
+    /** A prime that multiplies positions into scattered combinations of words; coprime to every combination count. */
+    private static final long SCATTER = 7919;
+
+    private static final int PERSON_STREAM = 0;
+    private static final int BOOK_STREAM = 1;
+
+    private final long seed;
+    private final int personCount;
+    private final int bookCount;
+    private double loanRatio = DEFAULT_LOAN_RATIO;
+    private double overdueRatio = DEFAULT_OVERDUE_RATIO;
+    private int tagCount = DEFAULT_TAG_COUNT;
+    private LocalDate today = LocalDate.now();
+
+    private ZipfDistribution authors;
+    private ZipfDistribution tags;
+
+    /**
+     * Creates a generator of BookFaces of {@code personCount} persons and {@code bookCount} books, which are random
+     * as given by {@code seed}.
+     */
+    public BookFaceGenerator(long seed, int personCount, int bookCount) {
+        AppUtil.checkArgument(personCount >= 0 && bookCount >= 0, "Counts must not be negative");
+        this.seed = seed;
+        this.personCount = personCount;
+        this.bookCount = bookCount;
+    }
+
+    /**
+     * Sets the fraction of the books that are on loan. No books are on loan if there are no persons.
+     */
+    public void setLoanRatio(double loanRatio) {
+        AppUtil.checkArgument(loanRatio >= 0 && loanRatio <= 1, "Loan ratio must be between 0 and 1");
+        this.loanRatio = loanRatio;
+    }
+
+    /**
+     * Sets the fraction of the books on loan that are overdue.
+     */
+    public void setOverdueRatio(double overdueRatio) {
+        AppUtil.checkArgument(overdueRatio >= 0 && overdueRatio <= 1, "Overdue ratio must be between 0 and 1");
+        this.overdueRatio = overdueRatio;
+    }
+
+    /**
+     * Sets the number of distinct tags that persons are tagged with.
+     */
+    public void setTagCount(int tagCount) {
+        AppUtil.checkArgument(tagCount >= 0, "Tag count must not be negative");
+        this.tagCount = tagCount;
+        tags = null;
+    }
+
+    /**
+     * Sets the day that the return dates of the books on loan are relative to.
+     */
+    public void setToday(LocalDate today) {
+        this.today = today;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getBookCount() {
+        return bookCount;
+    }
+
+    /**
+     * Returns the number of books that are on loan.
+     */
+    public int getLoanCount() {
+        return personCount == 0 ? 0 : (int) Math.round(bookCount * loanRatio);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons, each with the books it has on loan, which generates each person
+     * when it is asked for. Each call to {@code get} returns a new {@code Person} that is equal to the one before.
+     */
+    public List<Person> getPersons() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                Person person = createPerson(checkIndex(index, personCount));
+                for (int bookIndex = index; bookIndex < getLoanCount(); bookIndex += personCount) {
+                    loan(createBook(bookIndex), person, bookIndex);
+                }
+                return person;
+            }
+
+            @Override
+            public int size() {
+                return personCount;
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable view of the books that are not on loan, which generates each book when it is asked
+     * for. Each call to {@code get} returns a new {@code Book} that is equal to the one before.
+     */
+    public List<Book> getAvailableBooks() {
+        return new AbstractList<>() {
+            @Override
+            public Book get(int index) {
+                return createBook(getLoanCount() + checkIndex(index, size()));
+            }
+
+            @Override
+            public int size() {
+                return bookCount - getLoanCount();
+            }
+        };
+    }
+
+    /**
+     * Returns the whole BookFace, with the books on loan first.
+     */
+    public BookFace generate() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(createPerson(i));
+        }
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < bookCount; i++) {
+            Book book = createBook(i);
+            if (i < getLoanCount()) {
+                loan(book, persons.get(i % personCount), i);
+            }
+            books.add(book);
+        }
+
+        BookFace bookFace = new BookFace();
+        bookFace.setPersons(persons);
+        bookFace.setBooks(books);
+        return bookFace;
+    }
+
+    private Person createPerson(int index) {
+        SplittableRandom random = getRandom(PERSON_STREAM, index);
+        String[] names = getName(index).split(" ");
+        String phone = (8 + random.nextInt(2)) + String.format("%07d", random.nextInt(10_000_000));
+        String email = (names[0] + "." + names[names.length - 1]).toLowerCase() + index
+                + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+
+        Set<Tag> personTags = new HashSet<>();
+        if (tagCount > 0) {
+            if (tags == null) {
+                tags = new ZipfDistribution(tagCount);
+            }
+            for (int i = random.nextInt(MAX_TAGS_PER_PERSON + 1); i > 0; i--) {
+                int tag = tags.sample(random);
+                personTags.add(new Tag(TAG_WORDS[tag % TAG_WORDS.length]
+                        + (tag < TAG_WORDS.length ? "" : String.valueOf(tag / TAG_WORDS.length))));
+            }
+        }
+        return new Person(new Name(getName(index)), new Phone(phone), new Email(email), new HashSet<>(),
+                personTags);
+    }
+
+    private Book createBook(int index) {
+        if (authors == null) {
+            authors = new ZipfDistribution(Math.max(1, bookCount / BOOKS_PER_AUTHOR));
+        }
+        SplittableRandom random = getRandom(BOOK_STREAM, index);
+        int author = authors.sample(random);
+        return new Book(new Title(getTitle(index)), new Author(getName(author)));
+    }
+
+    /**
+     * Loans {@code book}, which is at {@code index}, to {@code loanee}, overdue or not as {@code overdueRatio} says.
+     */
+    private void loan(Book book, Person loanee, int index) {
+        // a separate stream, so that whether a book is on loan does not change how it is generated
+        SplittableRandom random = getRandom(BOOK_STREAM, ~index);
+        LocalDate returnDate = random.nextDouble() < overdueRatio
+                ? today.minusDays(1 + random.nextInt(MAX_OVERDUE_DAYS))
+                : today.plusDays(random.nextInt(MAX_LOAN_DAYS + 1));
+        book.loanTo(loanee, returnDate);
+        loanee.addLoanedBook(book);
+    }
+
+    private SplittableRandom getRandom(int stream, int index) {
+        return new SplittableRandom((seed * 31 + stream) * 0x9E3779B97F4A7C15L + index);
+    }
+
+    /**
+     * Returns the name at {@code index}: first a first and a last name, then with more and more middle names,
+     * and then numbered.
+     */
+    private String getName(int index) {
+        long remaining = index;
+        long combinations = (long) FIRST_NAMES.length * LAST_NAMES.length;
+        int middleNames = 0;
+        while (remaining >= combinations && middleNames < MAX_MIDDLE_NAMES) {
+            remaining -= combinations;
+            combinations *= FIRST_NAMES.length;
+            middleNames++;
+        }
+
+        long combination = scatter(remaining % combinations, combinations);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i <= middleNames; i++) {
+            name.append(FIRST_NAMES[(int) (combination % FIRST_NAMES.length)]).append(' ');
+            combination /= FIRST_NAMES.length;
+        }
+        name.append(LAST_NAMES[(int) combination]);
+        appendNumber(name, remaining / combinations);
+        return name.toString();
+    }
+
+    /**
+     * Returns the title at {@code index}: a template filled with an adjective, a noun and a subject, and then
+     * numbered as a volume.
+     */
+    private String getTitle(int index) {
+        long combinations = (long) TITLE_TEMPLATES.length * TITLE_ADJECTIVES.length * TITLE_NOUNS.length
+                * TITLE_SUBJECTS.length;
+        long combination = scatter(index % combinations, combinations);
+        String adjective = TITLE_ADJECTIVES[(int) (combination % TITLE_ADJECTIVES.length)];
+        combination /= TITLE_ADJECTIVES.length;
+        String noun = TITLE_NOUNS[(int) (combination % TITLE_NOUNS.length)];
+        combination /= TITLE_NOUNS.length;
+        String subject = TITLE_SUBJECTS[(int) (combination % TITLE_SUBJECTS.length)];
+        combination /= TITLE_SUBJECTS.length;
+
+        StringBuilder title = new StringBuilder(String.format(TITLE_TEMPLATES[(int) combination], adjective, noun,
+                subject));
+        if (index >= combinations) {
+            title.append(" Volume");
+            appendNumber(title, index / combinations);
+        }
+        return title.toString();
+    }
+
+    /**
+     * Appends the 1-based {@code number} to {@code builder}, if it is not the first.
+     */
+    private static void appendNumber(StringBuilder builder, long number) {
+        if (number > 0) {
+            builder.append(' ').append(number + 1);
+        }
+    }
+
+    /**
+     * Maps each position below {@code combinations} to a different combination, so that consecutive positions are
+     * different in more than their first word. The mapping is shifted by the seed.
+     */
+    private long scatter(long position, long combinations) {
+        return (position * SCATTER + Math.floorMod(seed, combinations)) % combinations;
+    }
+
+    private static int checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    /**
+     * A Zipf distribution over {@code 0} to {@code size - 1}, where {@code 0} is the most likely and each later
+     * value is less likely in proportion to its rank.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeWeights;
+
+        ZipfDistribution(int size) {
+            cumulativeWeights = new double[size];
+            double total = 0;
+            for (int rank = 1; rank <= size; rank++) {
+                total += 1.0 / rank;
+                cumulativeWeights[rank - 1] = total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int position = Arrays.binarySearch(cumulativeWeights, target);
+            return Math.min(position >= 0 ? position : -position - 1, cumulativeWeights.length - 1);
+        }
+    }
+}
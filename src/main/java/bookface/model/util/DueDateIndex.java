@@ -0,0 +1,126 @@
+package bookface.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of items by the time they are due, such as books on loan by their return date, which finds the items due
+ * before or within a range of times without checking every item.
+ * Times are plain {@code long}s, e.g. days since the epoch, so that looking them up allocates no dates.
+ * Finding the {@code k} items in a range takes O(log n + k) time, and counting them O(log n) plus the number of
+ * distinct times in the range.
+ *
+ * @param <K> the type of the keys of the indexed items, which must be immutable
+ */
+public class DueDateIndex<K> {
+
+    private final NavigableMap<Long, Set<K>> keysByDueTime = new TreeMap<>();
+    private final Map<K, Long> dueTimes = new HashMap<>();
+
+    /**
+     * Indexes {@code key} as due at {@code dueTime}, replacing the time it was indexed as due at before, if any.
+     */
+    public void add(K key, long dueTime) {
+        requireNonNull(key);
+        remove(key);
+        dueTimes.put(key, dueTime);
+        keysByDueTime.computeIfAbsent(dueTime, unused -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * Removes {@code key} from the index, if it is indexed.
+     */
+    public void remove(K key) {
+        requireNonNull(key);
+        Long dueTime = dueTimes.remove(key);
+        if (dueTime == null) {
+            return;
+        }
+        Set<K> keys = keysByDueTime.get(dueTime);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByDueTime.remove(dueTime);
+        }
+    }
+
+    /**
+     * Removes every key from the index.
+     */
+    public void clear() {
+        keysByDueTime.clear();
+        dueTimes.clear();
+    }
+
+    /**
+     * Returns the time {@code key} is due at, if it is indexed.
+     */
+    public Optional<Long> getDueTime(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(dueTimes.get(key));
+    }
+
+    /**
+     * Returns the earliest time any key is due at, if any key is indexed.
+     */
+    public Optional<Long> getEarliestDueTime() {
+        return keysByDueTime.isEmpty() ? Optional.empty() : Optional.of(keysByDueTime.firstKey());
+    }
+
+    /**
+     * Returns the earliest time any key is due at that is at or after {@code time}, if any.
+     */
+    public Optional<Long> getNextDueTime(long time) {
+        return Optional.ofNullable(keysByDueTime.ceilingKey(time));
+    }
+
+    /**
+     * Returns the keys due strictly before {@code time}, from the earliest due.
+     */
+    public List<K> getDueBefore(long time) {
+        return flatten(keysByDueTime.headMap(time, false).values());
+    }
+
+    /**
+     * Returns the keys due at or after {@code fromTime} and strictly before {@code toTime}, from the earliest due.
+     */
+    public List<K> getDueBetween(long fromTime, long toTime) {
+        if (fromTime >= toTime) {
+            return new ArrayList<>();
+        }
+        return flatten(keysByDueTime.subMap(fromTime, true, toTime, false).values());
+    }
+
+    /**
+     * Returns the number of keys due strictly before {@code time}.
+     */
+    public int countDueBefore(long time) {
+        int count = 0;
+        for (Set<K> keys : keysByDueTime.headMap(time, false).values()) {
+            count += keys.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of indexed keys.
+     */
+    public int size() {
+        return dueTimes.size();
+    }
+
+    private static <K> List<K> flatten(Collection<Set<K>> keySets) {
+        List<K> keys = new ArrayList<>();
+        keySets.forEach(keys::addAll);
+        return keys;
+    }
+}
@@ -0,0 +1,316 @@
+package bookface.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import bookface.commons.util.StringUtil;
+
+/**
+ * An inverted index from the n-grams of the words in some texts to the keys of the items the texts belong to,
+ * which finds the items whose texts contain a keyword as part of a word without scanning every item.
+ * Every substring of exactly {@code MAX_GRAM_LENGTH} characters of every word is indexed, ignoring case by
+ * folding it with {@link StringUtil#foldCase(String)}. Shorter substrings are not, as each of them is part of so
+ * many words that looking it up would hardly narrow the items down, while its postings would take a lot of memory.
+ *
+ * Looking up a keyword of {@code MAX_GRAM_LENGTH} characters finds exactly the items that contain it. A longer
+ * keyword finds the items that contain all of its n-grams, which must then be checked against the keyword. A shorter
+ * keyword cannot be looked up, so every item is a candidate for it.
+ * The index can also rank the items that contain some keywords by their Okapi BM25 score, where an item's term
+ * frequency for a keyword is the number of its words that contain the keyword.
+ *
+ * A keyword that starts with {@code FUZZY_PREFIX} is a fuzzy keyword, which tolerates typos: it matches the words
+ * within a small edit distance of the rest of the keyword, which are found in a {@code BkTree} of all the words.
+ *
+ * @param <K> the type of the keys of the indexed items, which must be immutable
+ */
+public class NgramIndex<K> {
+
+    public static final int MAX_GRAM_LENGTH = 3;
+    public static final String FUZZY_PREFIX = "~";
+
+    /** How quickly the score of an item saturates as its term frequency grows. */
+    private static final double BM25_K1 = 1.2;
+    /** How much the score of an item is normalised by its number of words. */
+    private static final double BM25_B = 0.75;
+
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final Map<String, Set<K>> keysByWord = new HashMap<>();
+    /** All the words in {@code keysByWord}, and words that have since been removed from it. */
+    private BkTree wordTree = new BkTree();
+    private long totalWordCount = 0;
+    private long nextSequence = 0;
+
+    /**
+     * Indexes the words of {@code texts} under {@code key}, replacing anything indexed under {@code key} before.
+     */
+    public void add(K key, String... texts) {
+        requireNonNull(key);
+        remove(key);
+
+        List<String> words = new ArrayList<>();
+        for (String text : texts) {
+            for (String word : text.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(StringUtil.foldCase(word));
+                }
+            }
+        }
+        Entry entry = new Entry(words.toArray(new String[0]), nextSequence++);
+        entries.put(key, entry);
+        totalWordCount += entry.words.length;
+        entry.getGrams().forEach(gram -> postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(key));
+        for (String word : entry.words) {
+            keysByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(key);
+            wordTree.add(word);
+        }
+    }
+
+    /**
+     * Removes everything indexed under {@code key}, if anything.
+     */
+    public void remove(K key) {
+        requireNonNull(key);
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        totalWordCount -= entry.words.length;
+        for (String gram : entry.getGrams()) {
+            Set<K> keys = postings.get(gram);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        for (String word : entry.words) {
+            Set<K> keys = keysByWord.get(word);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByWord.remove(word);
+            }
+        }
+        // the tree cannot forget words, so rebuild it once most of its words are no longer in use
+        if (wordTree.size() > 2 * keysByWord.size()) {
+            wordTree = new BkTree();
+            keysByWord.keySet().forEach(wordTree::add);
+        }
+    }
+
+    /**
+     * Removes everything from the index.
+     */
+    public void clear() {
+        postings.clear();
+        entries.clear();
+        keysByWord.clear();
+        wordTree = new BkTree();
+        totalWordCount = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the keys of the items that may contain any of {@code keywords} as part of a word, ignoring case.
+     * Every item that does contain one of them is returned, but an item returned for a keyword of other than
+     * {@code MAX_GRAM_LENGTH} characters may not contain it.
+     */
+    public Set<K> getCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<K> candidates = new HashSet<>();
+        keywords.forEach(keyword -> candidates.addAll(getCandidates(keyword)));
+        return candidates;
+    }
+
+    /**
+     * Returns the keys of the items that may contain {@code keyword} as part of a word, ignoring case.
+     */
+    public Set<K> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String folded = StringUtil.foldCase(keyword.trim());
+        if (folded.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (folded.length() < MAX_GRAM_LENGTH) {
+            return new HashSet<>(entries.keySet());
+        }
+
+        List<Set<K>> gramKeys = new ArrayList<>();
+        for (int start = 0; start + MAX_GRAM_LENGTH <= folded.length(); start++) {
+            Set<K> keys = postings.get(folded.substring(start, start + MAX_GRAM_LENGTH));
+            if (keys == null) {
+                return new HashSet<>();
+            }
+            gramKeys.add(keys);
+        }
+        // intersect starting from the rarest n-gram, so that the candidate set is never larger than it has to be
+        gramKeys.sort(Comparator.comparingInt(Set::size));
+        Set<K> candidates = new HashSet<>(gramKeys.get(0));
+        for (int i = 1; i < gramKeys.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(gramKeys.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the keys of at most {@code limit} items that contain any of {@code keywords} as part of a word,
+     * ignoring case, from the best match to the worst. Items with equal scores are ordered by when they were added.
+     * Only the best {@code limit} matches are kept while the matches are scored.
+     */
+    public List<K> getBestMatches(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+
+        Map<K, Double> scores = new HashMap<>();
+        double averageWordCount = entries.isEmpty() ? 1 : (double) totalWordCount / entries.size();
+        Set<String> distinctKeywords = new HashSet<>();
+        keywords.forEach(keyword -> distinctKeywords.add(StringUtil.foldCase(keyword.trim())));
+        for (String keyword : distinctKeywords) {
+            Map<K, Integer> termFrequencies = new HashMap<>();
+            for (K candidate : getCandidates(keyword)) {
+                int termFrequency = entries.get(candidate).countWordsContaining(keyword);
+                if (termFrequency > 0) {
+                    termFrequencies.put(candidate, termFrequency);
+                }
+            }
+
+            int documentFrequency = termFrequencies.size();
+            double idf = Math.log(1 + (entries.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            termFrequencies.forEach((key, termFrequency) -> {
+                double lengthNorm = 1 - BM25_B + BM25_B * entries.get(key).words.length / averageWordCount;
+                double score = idf * termFrequency * (BM25_K1 + 1) / (termFrequency + BM25_K1 * lengthNorm);
+                scores.merge(key, score, Double::sum);
+            });
+        }
+
+        return getFirst(scores, Comparator.reverseOrder(), limit);
+    }
+
+    /**
+     * Returns the keys of at most {@code limit} items that match any of {@code keywords}, from the closest match to
+     * the furthest. A fuzzy keyword matches an item at the least edit distance between the keyword and any of the
+     * item's words, if that is at most {@link #getMaxEditDistance(int)}. Any other keyword matches the items that
+     * contain it as part of a word, ignoring case, at a distance of 0. Items at equal distances are ordered by when
+     * they were added.
+     */
+    public List<K> getClosestMatches(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+
+        Map<K, Integer> distances = new HashMap<>();
+        for (String keyword : keywords) {
+            if (!isFuzzy(keyword)) {
+                String folded = StringUtil.foldCase(keyword.trim());
+                getCandidates(folded).stream()
+                        .filter(candidate -> entries.get(candidate).countWordsContaining(folded) > 0)
+                        .forEach(candidate -> distances.put(candidate, 0));
+                continue;
+            }
+
+            String term = StringUtil.foldCase(keyword.substring(FUZZY_PREFIX.length()).trim());
+            if (term.isEmpty()) {
+                continue;
+            }
+            wordTree.search(term, getMaxEditDistance(term.length())).forEach((word, distance) ->
+                    keysByWord.getOrDefault(word, Set.of()).forEach(key -> distances.merge(key, distance, Math::min)));
+        }
+        return getFirst(distances, Comparator.naturalOrder(), limit);
+    }
+
+    /**
+     * Returns true if looking up {@code keyword} can narrow the items down, rather than return every item as a
+     * candidate.
+     */
+    public static boolean canNarrowDown(String keyword) {
+        return StringUtil.foldCase(keyword.trim()).length() >= MAX_GRAM_LENGTH;
+    }
+
+    /**
+     * Returns true if {@code keyword} is a fuzzy keyword.
+     */
+    public static boolean isFuzzy(String keyword) {
+        return keyword.startsWith(FUZZY_PREFIX);
+    }
+
+    /**
+     * Returns the greatest edit distance at which a fuzzy keyword of {@code length} characters matches a word.
+     * Short keywords must match exactly, as a single edit could turn them into almost any other short word.
+     */
+    public static int getMaxEditDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the keys of {@code values} with the first {@code limit} values in {@code order}, in that order.
+     * Keys with equal values are ordered by when they were added. Only the first {@code limit} keys are kept while
+     * the values are compared.
+     */
+    private <V> List<K> getFirst(Map<K, V> values, Comparator<? super V> order, int limit) {
+        Comparator<Map.Entry<K, V>> first = Comparator.<Map.Entry<K, V>, V>comparing(Map.Entry::getValue, order)
+                .thenComparingLong(entry -> entries.get(entry.getKey()).sequence);
+        // a heap with the last of the first keys so far on top, so that it is the one to make way for an earlier one
+        PriorityQueue<Map.Entry<K, V>> firstEntries = new PriorityQueue<>(first.reversed());
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            firstEntries.add(entry);
+            if (firstEntries.size() > limit) {
+                firstEntries.poll();
+            }
+        }
+
+        List<Map.Entry<K, V>> sortedEntries = new ArrayList<>(firstEntries);
+        sortedEntries.sort(first);
+        List<K> keys = new ArrayList<>();
+        sortedEntries.forEach(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+
+    /**
+     * The case-folded words indexed under a key, and when they were added.
+     */
+    private static class Entry {
+        private final String[] words;
+        private final long sequence;
+
+        Entry(String[] words, long sequence) {
+            this.words = words;
+            this.sequence = sequence;
+        }
+
+        Set<String> getGrams() {
+            Set<String> grams = new HashSet<>();
+            for (String word : words) {
+                for (int start = 0; start + MAX_GRAM_LENGTH <= word.length(); start++) {
+                    grams.add(word.substring(start, start + MAX_GRAM_LENGTH));
+                }
+            }
+            return grams;
+        }
+
+        int countWordsContaining(String foldedKeyword) {
+            int count = 0;
+            for (String word : words) {
+                if (word.contains(foldedKeyword)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
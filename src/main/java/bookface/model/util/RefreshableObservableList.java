@@ -0,0 +1,143 @@
+package bookface.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} whose elements can be refreshed in place, for elements that are mutable and change without
+ * being replaced, such as a {@code Book} that is loaned or returned.
+ * A refresh is reported to listeners as an update of the element rather than a replacement of it with itself, and
+ * the refreshes made between {@link #beginBatch()} and {@link #endBatch()} are reported together as a single change.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class RefreshableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private final ToIntFunction<? super E> indexOf;
+    private final Set<E> pendingRefreshes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int batchDepth = 0;
+
+    /**
+     * Creates an empty list that finds the position of an element to refresh at the end of a batch with
+     * {@code indexOf}, which returns -1 for an element that is no longer in the list.
+     */
+    public RefreshableObservableList(ToIntFunction<? super E> indexOf) {
+        requireNonNull(indexOf);
+        this.indexOf = indexOf;
+    }
+
+    /**
+     * Notifies listeners that the element at {@code index} has changed in place, or, within a batch, records it to be
+     * notified of when the batch ends.
+     */
+    public void refresh(int index) {
+        E element = elements.get(index);
+        if (batchDepth > 0) {
+            pendingRefreshes.add(element);
+            return;
+        }
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    /**
+     * Starts a batch of refreshes, which are notified of as a single change by the matching {@link #endBatch()}.
+     * Batches can be nested, in which case the refreshes are notified of when the outermost batch ends.
+     * Changes to the elements of the list are still notified of immediately.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, notifying listeners of the elements refreshed in it that are
+     * still in the list if this is the outermost batch.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("endBatch() called without a matching beginBatch()");
+        }
+        batchDepth--;
+        if (batchDepth > 0 || pendingRefreshes.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        try {
+            for (E element : pendingRefreshes) {
+                int index = indexOf.applyAsInt(element);
+                if (index != -1 && elements.get(index) == element) {
+                    nextUpdate(index);
+                }
+            }
+        } finally {
+            pendingRefreshes.clear();
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Replaces all the elements in a single pass, as {@code ModifiableObservableListBase} removes them one at a time
+     * from the front.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(col);
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+}
@@ -21,6 +21,9 @@ import bookface.model.tag.Tag;
  * Contains utility methods for populating {@code BookFace} with sample data.
  */
 public class SampleDataUtil {
+    /** The seed of the generated sample BookFaces, so that every run is given the same BookFace. */
+    private static final long SAMPLE_SEED = 42;
+
     public static Person[] getSamplePersons() {
         return new Person[]{
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
@@ -62,6 +65,15 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
+    /**
+     * Returns a BookFace of {@code personCount} persons and {@code bookCount} books generated by
+     * {@link BookFaceGenerator}, for measuring how BookFace scales. The same counts always give the same persons
+     * and books, with the generator's default ratios of loaned and overdue books.
+     */
+    public static ReadOnlyBookFace getSampleBookFace(int personCount, int bookCount) {
+        return new BookFaceGenerator(SAMPLE_SEED, personCount, bookCount).generate();
+    }
+
     /**
      * Returns a tag set containing the list of strings given.
      */
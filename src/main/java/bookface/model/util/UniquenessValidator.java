@@ -0,0 +1,108 @@
+package bookface.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Checks a sequence of items for duplicates in a single pass.
+ * Two items are duplicates if their identity keys are equal, e.g. {@code Person#getName()} for persons, or the
+ * {@code Book} itself for books (case-insensitive title and author, as defined by {@code Book#equals(Object)}).
+ *
+ * @param <T> the type of the items to validate
+ */
+public class UniquenessValidator<T> {
+
+    private final Function<? super T, ?> identityKey;
+    private final Map<Object, Integer> firstPositions = new HashMap<>();
+    private final List<Duplicate> duplicates = new ArrayList<>();
+    private int nextPosition = 0;
+
+    /**
+     * Creates a {@code UniquenessValidator} that identifies items by {@code identityKey}.
+     */
+    public UniquenessValidator(Function<? super T, ?> identityKey) {
+        requireNonNull(identityKey);
+        this.identityKey = identityKey;
+    }
+
+    /**
+     * Records {@code item} as the next item in the sequence.
+     *
+     * @return true if no earlier item has the same identity as {@code item}.
+     */
+    public boolean add(T item) {
+        requireNonNull(item);
+        int position = nextPosition++;
+        Integer firstPosition = firstPositions.putIfAbsent(identityKey.apply(item), position);
+        if (firstPosition == null) {
+            return true;
+        }
+        duplicates.add(new Duplicate(item, position, firstPosition));
+        return false;
+    }
+
+    /**
+     * Records every item of {@code items} in order.
+     *
+     * @return this validator, for chaining.
+     */
+    public UniquenessValidator<T> addAll(List<? extends T> items) {
+        requireNonNull(items);
+        items.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Returns true if none of the recorded items are duplicates.
+     */
+    public boolean isUnique() {
+        return duplicates.isEmpty();
+    }
+
+    /**
+     * Returns every duplicate found so far, in the order they were recorded.
+     */
+    public List<Duplicate> getDuplicates() {
+        return Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Represents an item whose identity was already taken by an earlier item.
+     */
+    public static class Duplicate {
+        private final Object item;
+        private final int position;
+        private final int firstPosition;
+
+        private Duplicate(Object item, int position, int firstPosition) {
+            this.item = item;
+            this.position = position;
+            this.firstPosition = firstPosition;
+        }
+
+        /**
+         * Returns the zero-based position of the duplicate item.
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns the zero-based position of the earlier item with the same identity.
+         */
+        public int getFirstPosition() {
+            return firstPosition;
+        }
+
+        @Override
+        public String toString() {
+            return "entry " + (position + 1) + " duplicates entry " + (firstPosition + 1) + ": " + item;
+        }
+    }
+}
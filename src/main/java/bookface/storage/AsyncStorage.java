@@ -0,0 +1,181 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.StringUtil;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.ReadOnlyUserPrefs;
+import bookface.model.UserPrefs;
+
+/**
+ * A {@link Storage} that saves BookFace data on a background writer thread, so that callers do not wait for the
+ * data to be written.
+ * Each save takes a deep copy of the data on the calling thread, which every storage can write. Snapshots that
+ * arrive while an earlier one is still being written are coalesced, so that only the most recent one is written next.
+ * The outcome of every background save is sent to the {@link SaveListener}s, and a failure that no later save has
+ * made up for is also thrown by {@link #flush()}. User prefs are saved synchronously.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BookFace saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyBookFace> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private final Executor listenerExecutor;
+    private final List<SaveListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through to {@code storage}, and notifies its listeners on the
+     * writer thread.
+     */
+    public AsyncStorage(Storage storage) {
+        this(storage, Runnable::run);
+    }
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through to {@code storage}, and notifies its listeners on
+     * {@code listenerExecutor}, e.g. the JavaFX application thread.
+     */
+    public AsyncStorage(Storage storage, Executor listenerExecutor) {
+        requireNonNull(storage);
+        requireNonNull(listenerExecutor);
+        this.storage = storage;
+        this.listenerExecutor = listenerExecutor;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ BookFace methods ==============================
+
+    @Override
+    public Path getBookFaceFilePath() {
+        return storage.getBookFaceFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException, IOException {
+        return readBookFace(getBookFaceFilePath());
+    }
+
+    /**
+     * Similar to {@link #readBookFace()}.
+     * Waits for pending saves to be written first, so that the data read includes them.
+     */
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readBookFace(filePath);
+    }
+
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
+        saveBookFace(bookFace, getBookFaceFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveBookFace(ReadOnlyBookFace)}.
+     * Saves to any location other than the default one are written synchronously, after pending saves, and throw
+     * their own failures. Saves to the default location report their failures to the listeners instead.
+     */
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getBookFaceFilePath())) {
+            // the books are changed in place by loans and returns, so the writer cannot share them with the model
+            if (pendingSnapshot.getAndSet(BookFace.deepCopyOf(bookFace)) == null) {
+                writer.execute(this::writePendingSnapshot);
+            }
+        } else {
+            awaitPendingSaves();
+            storage.saveBookFace(bookFace, filePath);
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     *
+     * @throws IOException if the last background save failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitPendingSaves();
+        IOException ioe = failure.getAndSet(null);
+        if (ioe != null) {
+            throw ioe;
+        }
+        storage.flush();
+    }
+
+    @Override
+    public void addSaveListener(SaveListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    private void awaitPendingSaves() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyBookFace snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveBookFace(snapshot, getBookFaceFilePath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(ioe));
+            failure.set(ioe);
+            listeners.forEach(listener -> listenerExecutor.execute(() -> listener.saveFailed(ioe)));
+            return;
+        }
+        failure.set(null);
+        listeners.forEach(listener -> listenerExecutor.execute(listener::saveSucceeded));
+    }
+}
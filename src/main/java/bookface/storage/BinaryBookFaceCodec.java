@@ -0,0 +1,330 @@
+package bookface.storage;
+
+import static bookface.storage.JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK;
+import static bookface.storage.JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Author;
+import bookface.model.book.Book;
+import bookface.model.book.Title;
+import bookface.model.book.exceptions.DuplicateBookException;
+import bookface.model.person.Email;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+import bookface.model.person.Phone;
+import bookface.model.person.exceptions.DuplicatePersonException;
+import bookface.model.tag.Tag;
+import bookface.model.util.UniquenessValidator;
+
+/**
+ * Converts a BookFace to and from a compact binary format.
+ *
+ * The format is a header of {@code MAGIC} followed by a format version byte, and then
+ * <ol>
+ *     <li>a table of the distinct authors and tags, which are referred to by their position in the table,</li>
+ *     <li>the persons, each as its name, phone, email and tag positions,</li>
+ *     <li>the books, each as its title, author position and, if it is on loan, the position of its loanee among
+ *     the persons and its return date.</li>
+ * </ol>
+ * Counts, lengths, positions and return dates (as epoch days) are zigzag-encoded varints, and strings are
+ * a varint byte length followed by their UTF-8 bytes.
+ * Version 1 of the format stored return dates as epoch milliseconds, which are still read as the day they fall on.
+ */
+class BinaryBookFaceCodec {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data format version: %d";
+    public static final String MESSAGE_TRUNCATED = "Binary data file is truncated or corrupted.";
+
+    private static final byte[] MAGIC = {(byte) 0xBF, 'B', 'K', 'F'};
+    private static final int FORMAT_VERSION = 2;
+    private static final int EPOCH_MILLIS_FORMAT_VERSION = 1;
+    private static final int NOT_LOANED = 0;
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the header of this format.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] header = inputStream.readNBytes(MAGIC.length);
+            return Arrays.equals(header, MAGIC);
+        }
+    }
+
+    /**
+     * Encodes {@code bookFace} into the binary format.
+     */
+    static byte[] encode(ReadOnlyBookFace bookFace) {
+        List<Person> persons = bookFace.getPersonList();
+        List<Book> books = bookFace.getBookList();
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            person.getTags().forEach(tag -> strings.putIfAbsent(tag.tagName, strings.size()));
+        }
+        books.forEach(book -> strings.putIfAbsent(book.getAuthor().bookAuthor, strings.size()));
+
+        Writer writer = new Writer();
+        writer.write(MAGIC);
+        writer.write(FORMAT_VERSION);
+
+        writer.writeVarInt(strings.size());
+        strings.keySet().forEach(writer::writeString);
+
+        Map<Name, Integer> personPositions = new HashMap<>();
+        writer.writeVarInt(persons.size());
+        for (Person person : persons) {
+            personPositions.put(person.getName(), personPositions.size());
+            writer.writeString(person.getName().fullName);
+            writer.writeString(person.getPhone().value);
+            writer.writeString(person.getEmail().value);
+            writer.writeVarInt(person.getTags().size());
+            person.getTags().forEach(tag -> writer.writeVarInt(strings.get(tag.tagName)));
+        }
+
+        writer.writeVarInt(books.size());
+        for (Book book : books) {
+            writer.writeString(book.getTitle().bookTitle);
+            writer.writeVarInt(strings.get(book.getAuthor().bookAuthor));
+            if (book.getLoanee().isPresent() && book.getReturnDate().isPresent()) {
+                writer.writeVarInt(personPositions.get(book.getLoanee().get().getName()) + 1);
+                writer.writeVarLong(book.getReturnDate().get().toEpochDay());
+            } else {
+                writer.writeVarInt(NOT_LOANED);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a BookFace from {@code data} in the binary format.
+     *
+     * @throws IllegalValueException if {@code data} is not in the binary format, or there were any data
+     *     constraints violated.
+     */
+    static BookFace decode(byte[] data) throws IllegalValueException {
+        ByteBuffer input = ByteBuffer.wrap(data);
+        try {
+            return new Reader(input).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    /**
+     * Writes the primitive values of the format into a growing byte array.
+     * Unlike a {@code ByteArrayOutputStream}, it does not synchronize on every byte it writes.
+     */
+    private static class Writer {
+        private static final int INITIAL_CAPACITY = 8192;
+
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int size = 0;
+
+        void write(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extraBytes) {
+            if (size + extraBytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extraBytes));
+            }
+        }
+
+        void writeVarInt(int value) {
+            assert value >= 0;
+            writeVarLong(value);
+        }
+
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            write((int) zigzag);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            write(bytes);
+        }
+    }
+
+    /**
+     * Reads a BookFace from the primitive values of the format.
+     */
+    private static class Reader {
+        private final ByteBuffer input;
+        private int version;
+
+        Reader(ByteBuffer input) {
+            this.input = input;
+        }
+
+        BookFace read() throws IllegalValueException {
+            byte[] header = new byte[MAGIC.length];
+            input.get(header);
+            if (!Arrays.equals(header, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            version = input.get();
+            if (version != FORMAT_VERSION && version != EPOCH_MILLIS_FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString();
+            }
+            // authors and tags are immutable, so each distinct one is validated and created only once
+            Author[] authors = new Author[strings.length];
+            Tag[] tags = new Tag[strings.length];
+
+            List<Person> persons = new ArrayList<>();
+            int personCount = readCount();
+            for (int i = 0; i < personCount; i++) {
+                Name name = new Name(readString());
+                Phone phone = new Phone(readString());
+                Email email = new Email(readString());
+                Set<Tag> personTags = new HashSet<>();
+                int tagCount = readCount();
+                for (int j = 0; j < tagCount; j++) {
+                    int position = readVarInt();
+                    if (tags[position] == null) {
+                        tags[position] = new Tag(strings[position]);
+                    }
+                    personTags.add(tags[position]);
+                }
+                persons.add(new Person(name, phone, email, new HashSet<>(), personTags));
+            }
+
+            List<Book> books = new ArrayList<>();
+            int bookCount = readCount();
+            for (int i = 0; i < bookCount; i++) {
+                Title title = new Title(readString());
+                int authorPosition = readVarInt();
+                if (authors[authorPosition] == null) {
+                    authors[authorPosition] = new Author(strings[authorPosition]);
+                }
+                Book book = new Book(title, authors[authorPosition]);
+                int loaneePosition = readVarInt();
+                if (loaneePosition != NOT_LOANED) {
+                    Person loanee = persons.get(loaneePosition - 1);
+                    book.loanTo(loanee, readReturnDate());
+                    loanee.addLoanedBook(book);
+                }
+                books.add(book);
+            }
+
+            // the lists check for duplicates as they are set, so the duplicates are only looked for again to log
+            // them when there are any
+            BookFace bookFace = new BookFace();
+            try {
+                bookFace.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                JsonSerializableBookFace.checkUnique(new UniquenessValidator<Person>(Person::getName).addAll(persons),
+                        MESSAGE_DUPLICATE_PERSON);
+            }
+            try {
+                bookFace.setBooks(books);
+            } catch (DuplicateBookException dbe) {
+                JsonSerializableBookFace.checkUnique(new UniquenessValidator<Book>(Function.identity()).addAll(books),
+                        MESSAGE_DUPLICATE_BOOK);
+            }
+            return bookFace;
+        }
+
+        int readVarInt() throws IllegalValueException {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of elements that follow, each of which takes at least one byte.
+         */
+        int readCount() throws IllegalValueException {
+            int count = readVarInt();
+            if (count > input.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return count;
+        }
+
+        long readVarLong() throws IllegalValueException {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = input.get();
+                zigzag |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+
+        /**
+         * Reads a return date, which older versions of the format stored as epoch milliseconds.
+         */
+        LocalDate readReturnDate() throws IllegalValueException {
+            long value = readVarLong();
+            try {
+                if (version == EPOCH_MILLIS_FORMAT_VERSION) {
+                    return Instant.ofEpochMilli(value).atZone(ZoneId.systemDefault()).toLocalDate();
+                }
+                return LocalDate.ofEpochDay(value);
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+        }
+
+        String readString() throws IllegalValueException {
+            int length = readVarInt();
+            if (length > input.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            String value = new String(input.array(), input.position(), length, StandardCharsets.UTF_8);
+            input.position(input.position() + length);
+            return value;
+        }
+    }
+}
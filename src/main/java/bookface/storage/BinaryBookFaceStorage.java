@@ -0,0 +1,82 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * A class to access BookFace data stored in the compact binary format of {@link BinaryBookFaceCodec} on the hard
+ * disk, which is faster to load and save than json.
+ * The previous versions of the file are kept as rotating backups next to it, and are read instead when the file
+ * itself cannot be read.
+ */
+public class BinaryBookFaceStorage implements BookFaceStorage {
+
+    private final Path filePath;
+    private final int backupCount;
+
+    public BinaryBookFaceStorage(Path filePath) {
+        this(filePath, JsonBookFaceStorage.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code BinaryBookFaceStorage} for the file at {@code filePath} that keeps up to
+     * {@code backupCount} previous versions of the file.
+     */
+    public BinaryBookFaceStorage(Path filePath, int backupCount) {
+        assert backupCount >= 0;
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getBookFaceFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException {
+        return readBookFace(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBookFace()}.
+     * Files saved in any other {@link bookface.commons.core.DataFormat} are detected and read as well.
+     * If the file is not in the correct format, the newest backup that is is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor any of its backups are in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return BookFaceFileReader.read(filePath, backupCount);
+    }
+
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
+        saveBookFace(bookFace, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBookFace(ReadOnlyBookFace)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.rotateBackups(filePath, backupCount);
+        FileUtil.writeToFile(filePath, BinaryBookFaceCodec.encode(bookFace));
+    }
+
+}
@@ -0,0 +1,67 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import bookface.commons.core.DataFormat;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Converts a BookFace data file into another {@link DataFormat}, e.g. an existing json file into the binary format.
+ * Can be run on its own with the arguments {@code SOURCE_FILE TARGET_FILE FORMAT}.
+ */
+public class BookFaceFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: BookFaceFileConverter SOURCE_FILE TARGET_FILE (json|binary)";
+
+    /**
+     * Returns a {@code BookFaceStorage} that saves to {@code filePath} in {@code format}.
+     */
+    public static BookFaceStorage createStorage(DataFormat format, Path filePath) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryBookFaceStorage(filePath);
+        case JSON:
+            return new JsonBookFaceStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown data format: " + format);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code source}, which may be in any format, and saves it to {@code target} in
+     * {@code format}. {@code source} and {@code target} may be the same file.
+     *
+     * @throws DataConversionException if {@code source} is not found or not in a correct format.
+     * @throws IOException if there was any problem writing to {@code target}.
+     */
+    public static void convert(Path source, Path target, DataFormat format)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyBookFace> bookFace = BookFaceFileReader.readFile(source);
+        if (bookFace.isEmpty()) {
+            throw new DataConversionException(new IOException("Data file " + source + " not found"));
+        }
+        createStorage(format, target).saveBookFace(bookFace.get());
+    }
+
+    /**
+     * Converts the data file named by the first argument into the file named by the second argument, in the format
+     * named by the third.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]), DataFormat.valueOf(args[2].toUpperCase()));
+    }
+}
@@ -0,0 +1,77 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.FileUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Reads BookFace data files in any of the formats in {@link bookface.commons.core.DataFormat}, detecting the format
+ * from the content of the file, so that a file can be read regardless of the format it was last saved in.
+ */
+class BookFaceFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BookFaceFileReader.class);
+
+    /**
+     * Reads the data file at {@code filePath}.
+     * If the file is not in the correct format, the newest of its {@code backupCount} backups that is is read
+     * instead.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if neither the file nor any of its backups are in the correct format.
+     */
+    static Optional<ReadOnlyBookFace> read(Path filePath, int backupCount) throws DataConversionException {
+        try {
+            return readFile(filePath);
+        } catch (DataConversionException dce) {
+            for (int generation = 1; generation <= backupCount; generation++) {
+                Path backupPath = FileUtil.getBackupPath(filePath, generation);
+                if (!FileUtil.isFileExists(backupPath)) {
+                    continue;
+                }
+                try {
+                    Optional<ReadOnlyBookFace> backup = readFile(backupPath);
+                    logger.warning("Data file " + filePath + " is not in the correct format, using backup "
+                            + backupPath + " instead");
+                    return backup;
+                } catch (DataConversionException backupDce) {
+                    logger.info("Backup " + backupPath + " is not in the correct format either");
+                }
+            }
+            throw dce;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, without falling back to its backups.
+     * Json files are streamed with {@link JsonBookFaceStreamReader}, so records are converted into the model as
+     * they are read instead of being held as a whole json tree first.
+     */
+    static Optional<ReadOnlyBookFace> readFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (BinaryBookFaceCodec.isBinaryFile(filePath)) {
+                return Optional.of(BinaryBookFaceCodec.decode(Files.readAllBytes(filePath)));
+            }
+            return Optional.of(JsonBookFaceStreamReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+}
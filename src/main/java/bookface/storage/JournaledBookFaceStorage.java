@@ -0,0 +1,313 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.FileUtil;
+import bookface.commons.util.JsonUtil;
+import bookface.model.BookFace;
+import bookface.model.BookFaceListener;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * A {@link BookFaceStorage} that keeps a snapshot of BookFace in another {@code BookFaceStorage}, and records
+ * every later change as one compact line in a journal file next to the snapshot.
+ * Saving therefore only appends the changes made since the previous save, and the journal is folded back into the
+ * snapshot once it grows past the compaction threshold, or when the data was replaced wholesale (e.g. by clear).
+ * The journal starts with a {@link JsonAdaptedJournalHeader} identifying the snapshot it was started on, and
+ * reading replays it on top of the snapshot only if that is the snapshot read.
+ */
+public class JournaledBookFaceStorage implements BookFaceStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String REJECTED_JOURNAL_FILE_SUFFIX = ".rejected";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    public static final String MESSAGE_MISSING_HEADER = "Journal does not start with a header identifying its "
+            + "snapshot.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledBookFaceStorage.class);
+
+    private final BookFaceStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final JournalRecorder recorder = new JournalRecorder();
+
+    private BookFace trackedBookFace;
+    private JsonAdaptedJournalHeader snapshotHeader;
+    private int journalLength;
+
+    public JournaledBookFaceStorage(BookFaceStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledBookFaceStorage} that keeps its snapshot in {@code snapshotStorage} and compacts the
+     * journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledBookFaceStorage(BookFaceStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal belonging to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location a journal belonging to the snapshot at {@code filePath} is moved to when it cannot be
+     * replayed.
+     */
+    public static Path getRejectedJournalFilePath(Path filePath) {
+        Path journalFilePath = getJournalFilePath(filePath);
+        return journalFilePath.resolveSibling(journalFilePath.getFileName() + REJECTED_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getBookFaceFilePath() {
+        return snapshotStorage.getBookFaceFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException, IOException {
+        return readBookFace(getBookFaceFilePath());
+    }
+
+    /**
+     * Similar to {@link #readBookFace()}.
+     * A journal whose last line is incomplete (e.g. after a crash in the middle of an append) is replayed up to that
+     * line. A journal started on another snapshot (e.g. after a crash in the middle of a compaction, when the
+     * snapshot already includes it) is ignored with a warning.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot is not in the correct format, or the journal started on it
+     *     cannot be replayed. Such a journal is moved to {@link #getRejectedJournalFilePath(Path)} rather than being
+     *     compacted away by the next save.
+     */
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyBookFace> snapshot = snapshotStorage.readBookFace(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        BookFace replayed = snapshot.map(BookFace::new).orElseGet(BookFace::new);
+        try {
+            Optional<JsonAdaptedJournalHeader> header = readHeader(lines);
+            if (header.isEmpty()) {
+                return snapshot;
+            }
+            if (!header.get().isOf(filePath)) {
+                logger.warning("Journal " + journalFilePath + " was started on another snapshot than " + filePath
+                        + ", using the snapshot only");
+                return snapshot;
+            }
+            replay(lines.subList(1, lines.size()), replayed);
+        } catch (IllegalValueException ive) {
+            Path rejectedFilePath = getRejectedJournalFilePath(filePath);
+            FileUtil.rotateBackups(rejectedFilePath, JsonBookFaceStorage.DEFAULT_BACKUP_COUNT);
+            Files.move(journalFilePath, rejectedFilePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Journal " + journalFilePath + " cannot be replayed onto " + filePath + ", kept as "
+                    + rejectedFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(replayed);
+    }
+
+    /**
+     * Returns the header on the first line of the journal {@code lines}, or an empty {@code Optional} if the journal
+     * holds nothing to replay.
+     *
+     * @throws IllegalValueException if the first line is not a header.
+     */
+    private static Optional<JsonAdaptedJournalHeader> readHeader(List<String> lines) throws IllegalValueException {
+        if (lines.stream().allMatch(String::isBlank)) {
+            return Optional.empty();
+        }
+
+        JsonAdaptedJournalHeader header;
+        try {
+            header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalHeader.class);
+        } catch (IOException e) {
+            if (lines.size() == 1) {
+                logger.warning("Ignoring incomplete journal header: " + e.getMessage());
+                return Optional.empty();
+            }
+            throw new IllegalValueException("Journal header is not valid json: " + e.getMessage());
+        }
+        if (!header.isComplete()) {
+            throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+        }
+        return Optional.of(header);
+    }
+
+    private void replay(List<String> lines, BookFace bookFace) throws IllegalValueException {
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last journal entry: " + e.getMessage());
+                    return;
+                }
+                throw new IllegalValueException("Journal entry " + (i + 1) + " is not valid json: " + e.getMessage());
+            }
+            entry.applyTo(bookFace);
+        }
+    }
+
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
+        saveBookFace(bookFace, getBookFaceFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveBookFace(ReadOnlyBookFace)}.
+     * Only appends to the journal when {@code bookFace} is the {@code BookFace} last saved to the default location;
+     * a full snapshot is written otherwise.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getBookFaceFilePath())) {
+            snapshotStorage.saveBookFace(bookFace, filePath);
+            return;
+        }
+
+        if (bookFace != trackedBookFace || recorder.needsSnapshot
+                || journalLength + recorder.pending.size() > compactionThreshold) {
+            compact(bookFace, filePath);
+            return;
+        }
+
+        if (recorder.pending.isEmpty()) {
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(snapshotHeader)).append(System.lineSeparator());
+        }
+        for (JsonAdaptedJournalEntry entry : recorder.pending) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(journalFilePath, lines.toString());
+        journalLength += recorder.pending.size();
+        recorder.pending.clear();
+    }
+
+    /**
+     * Writes a full snapshot of {@code bookFace} and deletes the journal it supersedes.
+     * Changes to {@code bookFace} are journaled from now on, if it is a {@code BookFace}. The header of their journal
+     * is taken from the snapshot once here, while it is still cached, rather than on every append.
+     */
+    private void compact(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        logger.fine("Compacting " + journalLength + " journal entries into " + filePath);
+        snapshotStorage.saveBookFace(bookFace, filePath);
+        snapshotHeader = JsonAdaptedJournalHeader.of(filePath).orElseThrow(() ->
+                new IOException("Snapshot " + filePath + " was removed as soon as it was written"));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalLength = 0;
+        recorder.pending.clear();
+        recorder.needsSnapshot = false;
+
+        if (bookFace != trackedBookFace) {
+            if (trackedBookFace != null) {
+                trackedBookFace.removeListener(recorder);
+            }
+            trackedBookFace = bookFace instanceof BookFace ? (BookFace) bookFace : null;
+            if (trackedBookFace != null) {
+                trackedBookFace.addListener(recorder);
+            }
+        }
+    }
+
+    /**
+     * Converts each change to the tracked {@code BookFace} into a journal entry as soon as it happens, since the
+     * model objects involved may be modified further before the next save.
+     */
+    private static class JournalRecorder implements BookFaceListener {
+        private final List<JsonAdaptedJournalEntry> pending = new ArrayList<>();
+        private boolean needsSnapshot = false;
+
+        @Override
+        public void personAdded(Person person) {
+            pending.add(JsonAdaptedJournalEntry.addPerson(person));
+        }
+
+        @Override
+        public void personRemoved(Person person) {
+            pending.add(JsonAdaptedJournalEntry.deletePerson(person));
+        }
+
+        @Override
+        public void personReplaced(Person target, Person editedPerson) {
+            pending.add(JsonAdaptedJournalEntry.editPerson(target, editedPerson));
+        }
+
+        @Override
+        public void bookAdded(Book book) {
+            pending.add(JsonAdaptedJournalEntry.addBook(book));
+        }
+
+        @Override
+        public void bookRemoved(Book book) {
+            pending.add(JsonAdaptedJournalEntry.deleteBook(book));
+        }
+
+        @Override
+        public void bookReplaced(Book target, Book editedBook) {
+            pending.add(JsonAdaptedJournalEntry.editBook(target, editedBook));
+        }
+
+        @Override
+        public void bookLoaned(Person person, Book book, LocalDate returnDate) {
+            pending.add(JsonAdaptedJournalEntry.loan(person, book, returnDate));
+        }
+
+        @Override
+        public void bookReturned(Book book) {
+            pending.add(JsonAdaptedJournalEntry.returnBook(book));
+        }
+
+        @Override
+        public void dataReset() {
+            pending.clear();
+            needsSnapshot = true;
+        }
+    }
+}
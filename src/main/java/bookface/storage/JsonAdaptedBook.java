@@ -1,14 +1,13 @@
 package bookface.storage;
 
-import static bookface.commons.util.Date.DATE_FORMAT;
-
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.DateUtil;
 import bookface.commons.util.StringUtil;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.model.book.Author;
@@ -24,6 +23,7 @@ class JsonAdaptedBook {
             + "string!";
     public static final String MISSING_BOOK_FIELD_MESSAGE_FORMAT = "Book's %s field is missing!";
     public static final String INVALID_BOOK_FORMAT = "Invalid format for a loaned book detected!";
+    public static final String INVALID_RETURN_DATE = "A loaned Book's returnDate field is not a valid date: %s";
 
     private final String title;
     private final String author;
@@ -52,10 +52,7 @@ class JsonAdaptedBook {
         author = source.getAuthor().bookAuthor;
         isLoaned = source.isLoaned();
         if (isLoaned) {
-            SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
-
-            returnDate = formatter.format(source.getReturnDate()
-                    .orElseGet(bookface.commons.util.Date::getFourteenDaysLaterDate));
+            returnDate = DateUtil.format(source.getReturnDate().orElseGet(DateUtil::getFourteenDaysLaterDate));
         } else {
             returnDate = "";
         }
@@ -71,19 +68,13 @@ class JsonAdaptedBook {
             throw new IllegalValueException(
                     String.format(MISSING_BOOK_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
         }
-        if (!Title.isValidTitle(title)) {
-            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
-        }
-        final Title modelTitle = new Title(title);
+        final Title modelTitle = ModelValues.create(Title::new, title);
 
         if (author == null) {
             throw new IllegalValueException(
                     String.format(MISSING_BOOK_FIELD_MESSAGE_FORMAT, Author.class.getSimpleName()));
         }
-        if (!Author.isValidAuthor(author)) {
-            throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
-        }
-        final Author modelAuthor = new Author(author);
+        final Author modelAuthor = ModelValues.create(Author::new, author);
 
         if (isLoaned == null) {
             throw new IllegalValueException(String.format(MISSING_BOOK_FIELD_MESSAGE_FORMAT, "isLoaned"));
@@ -103,13 +94,13 @@ class JsonAdaptedBook {
 
         if (isLoaned) {
             try {
-                final Date modelDate = DATE_FORMAT.parse(returnDate);
+                final LocalDate modelDate = DateUtil.parse(returnDate);
                 if (returnDate.length() != 10) {
                     throw new ParseException("A loaned Book's returnDate field does not have exactly 10 characters!");
                 }
                 return new Book(modelTitle, modelAuthor, modelDate);
-            } catch (java.text.ParseException pe) {
-                throw new ParseException(pe.getMessage());
+            } catch (DateTimeParseException pe) {
+                throw new ParseException(String.format(INVALID_RETURN_DATE, returnDate));
             }
         } else {
             return new Book(modelTitle, modelAuthor);
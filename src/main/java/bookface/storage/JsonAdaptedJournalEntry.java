@@ -0,0 +1,230 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.DateUtil;
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single change to a {@link BookFace}, as stored in the journal.
+ * Persons and books are referred to by their identity (name, or title and author), and loans are recorded as
+ * separate {@code LOAN} and {@code RETURN} entries, so every entry stays small regardless of the library size.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal entry for %s is missing its %s field!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal entry for %s refers to an unknown person: %s";
+    public static final String MESSAGE_UNKNOWN_BOOK = "Journal entry for %s refers to an unknown book: %s";
+    public static final String MESSAGE_INCONSISTENT = "Journal entry for %s does not apply to the current data!";
+
+    /**
+     * Kinds of changes that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD_PERSON, DELETE_PERSON, EDIT_PERSON, ADD_BOOK, DELETE_BOOK, EDIT_BOOK, LOAN, RETURN
+    }
+
+    private final Operation op;
+    private final String name;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedBook target;
+    private final JsonAdaptedBook book;
+    private final String returnDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") Operation op, @JsonProperty("name") String name,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("target") JsonAdaptedBook target,
+            @JsonProperty("book") JsonAdaptedBook book, @JsonProperty("returnDate") String returnDate) {
+        this.op = op;
+        this.name = name;
+        this.person = person;
+        this.target = target;
+        this.book = book;
+        this.returnDate = returnDate;
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was added.
+     */
+    public static JsonAdaptedJournalEntry addPerson(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_PERSON, null, withoutLoans(person), null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was deleted.
+     */
+    public static JsonAdaptedJournalEntry deletePerson(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE_PERSON, person.getName().fullName, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedPerson}.
+     * The loans of {@code target} carry over to {@code editedPerson} when the entry is applied.
+     */
+    public static JsonAdaptedJournalEntry editPerson(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalEntry(Operation.EDIT_PERSON, target.getName().fullName,
+                withoutLoans(editedPerson), null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code book} was added.
+     */
+    public static JsonAdaptedJournalEntry addBook(Book book) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_BOOK, null, null, null, identityOf(book), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code book} was deleted.
+     */
+    public static JsonAdaptedJournalEntry deleteBook(Book book) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE_BOOK, null, null, null, identityOf(book), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedBook}.
+     * The loan of {@code target}, if any, carries over to {@code editedBook} when the entry is applied.
+     */
+    public static JsonAdaptedJournalEntry editBook(Book target, Book editedBook) {
+        return new JsonAdaptedJournalEntry(Operation.EDIT_BOOK, null, null, identityOf(target),
+                identityOf(editedBook), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code book} was loaned to {@code person} until {@code returnDate}.
+     */
+    public static JsonAdaptedJournalEntry loan(Person person, Book book, LocalDate returnDate) {
+        return new JsonAdaptedJournalEntry(Operation.LOAN, person.getName().fullName, null, null, identityOf(book),
+                DateUtil.format(returnDate));
+    }
+
+    /**
+     * Returns an entry recording that {@code book} was returned.
+     */
+    public static JsonAdaptedJournalEntry returnBook(Book book) {
+        return new JsonAdaptedJournalEntry(Operation.RETURN, null, null, null, identityOf(book), null);
+    }
+
+    /**
+     * Replays this entry on {@code bookFace}.
+     *
+     * @throws IllegalValueException if the entry is malformed, or does not apply to the data in {@code bookFace}.
+     */
+    public void applyTo(BookFace bookFace) throws IllegalValueException {
+        requireNonNull(bookFace);
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, "null"));
+        }
+
+        switch (op) {
+        case ADD_PERSON:
+            Person personToAdd = requireField(person, "person").toModelType();
+            if (bookFace.hasPerson(personToAdd)) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.addPerson(personToAdd);
+            break;
+        case DELETE_PERSON:
+            bookFace.removePerson(findPerson(bookFace));
+            break;
+        case EDIT_PERSON:
+            Person personToEdit = findPerson(bookFace);
+            Person editedPerson = requireField(person, "person").toModelType();
+            if (!personToEdit.isSamePerson(editedPerson) && bookFace.hasPerson(editedPerson)) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.setPerson(personToEdit, new Person(editedPerson.getName(), editedPerson.getPhone(),
+                    editedPerson.getEmail(), personToEdit.getLoanedBooksSet(), editedPerson.getTags()));
+            break;
+        case ADD_BOOK:
+            Book bookToAdd = requireField(book, "book").toModelType();
+            if (bookFace.hasBook(bookToAdd)) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.addBook(bookToAdd);
+            break;
+        case DELETE_BOOK:
+            bookFace.deleteBook(findBook(bookFace, book, "book"));
+            break;
+        case EDIT_BOOK:
+            Book bookToEdit = findBook(bookFace, target, "target");
+            Book editedBook = requireField(book, "book").toModelType();
+            if (!bookToEdit.equals(editedBook) && bookFace.hasBook(editedBook)) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.setBook(bookToEdit, editedBook);
+            break;
+        case LOAN:
+            Person loanee = findPerson(bookFace);
+            Book bookToLoan = findBook(bookFace, book, "book");
+            if (bookToLoan.isLoaned()) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.loan(loanee, bookToLoan, parseReturnDate());
+            break;
+        case RETURN:
+            Book bookToReturn = findBook(bookFace, book, "book");
+            if (!bookToReturn.isLoaned()) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT, op));
+            }
+            bookFace.returnLoanedBook(bookToReturn);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private Person findPerson(BookFace bookFace) throws IllegalValueException {
+        Name key = ModelValues.create(Name::new, requireField(name, "name"));
+        return bookFace.getPerson(key).orElseThrow(() ->
+                new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, op, name)));
+    }
+
+    private Book findBook(BookFace bookFace, JsonAdaptedBook identity, String fieldName)
+            throws IllegalValueException {
+        Book key = requireField(identity, fieldName).toModelType();
+        return bookFace.getBook(key).orElseThrow(() ->
+                new IllegalValueException(String.format(MESSAGE_UNKNOWN_BOOK, op, key)));
+    }
+
+    private LocalDate parseReturnDate() throws IllegalValueException {
+        requireField(returnDate, "returnDate");
+        try {
+            return DateUtil.parse(returnDate);
+        } catch (DateTimeParseException pe) {
+            throw new IllegalValueException(pe.getMessage());
+        }
+    }
+
+    private <T> T requireField(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, fieldName));
+        }
+        return field;
+    }
+
+    private static JsonAdaptedPerson withoutLoans(Person person) {
+        return new JsonAdaptedPerson(new Person(person.getName(), person.getPhone(), person.getEmail(),
+                new HashSet<>(), person.getTags()));
+    }
+
+    private static JsonAdaptedBook identityOf(Book book) {
+        return new JsonAdaptedBook(book.getTitle().bookTitle, book.getAuthor().bookAuthor, "", false);
+    }
+}
@@ -0,0 +1,86 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import bookface.commons.util.FileUtil;
+
+/**
+ * Jackson-friendly first line of a journal, which identifies the snapshot the journal was started on by the size
+ * and checksum of the snapshot file.
+ * Every compaction writes a new snapshot, so a journal only applies to the snapshot whose identity it records.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long snapshotSize;
+    private final Long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot identity.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") Long snapshotSize,
+            @JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the header of a journal started on the snapshot file at {@code filePath}, or an empty
+     * {@code Optional} if there is no such file.
+     */
+    public static Optional<JsonAdaptedJournalHeader> of(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        CRC32 checksum = new CRC32();
+        long size;
+        try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            size = inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return Optional.of(new JsonAdaptedJournalHeader(size, checksum.getValue()));
+    }
+
+    /**
+     * Returns true if this is the header of a journal started on the snapshot file at {@code filePath}.
+     * The file is only checksummed if it has the recorded size, so a journal of another snapshot is usually told
+     * apart without reading the file.
+     */
+    public boolean isOf(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath) || Files.size(filePath) != snapshotSize) {
+            return false;
+        }
+        return of(filePath).map(this::equals).orElse(false);
+    }
+
+    /**
+     * Returns true if this is a complete header rather than, e.g., an entry of a journal without one.
+     */
+    public boolean isComplete() {
+        return snapshotSize != null && snapshotChecksum != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonAdaptedJournalHeader // instanceof handles nulls
+                && Objects.equals(snapshotSize, ((JsonAdaptedJournalHeader) other).snapshotSize)
+                && Objects.equals(snapshotChecksum, ((JsonAdaptedJournalHeader) other).snapshotChecksum));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapshotSize, snapshotChecksum);
+    }
+}
@@ -102,28 +102,19 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(
                     String.format(MISSING_PERSON_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = ModelValues.create(Name::new, name);
 
         if (phone == null) {
             throw new IllegalValueException(
                     String.format(MISSING_PERSON_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = ModelValues.create(Phone::new, phone);
 
         if (email == null) {
             throw new IllegalValueException(
                     String.format(MISSING_PERSON_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = ModelValues.create(Email::new, email);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<Book> modelBooks = new HashSet<>(bookLoansToPerson);
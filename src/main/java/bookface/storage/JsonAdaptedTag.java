@@ -40,10 +40,10 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (tagName == null || !Tag.isValidTagName(tagName)) {
+        if (tagName == null) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return ModelValues.create(Tag::new, tagName);
     }
 
 }
@@ -5,26 +5,46 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import bookface.commons.core.LogsCenter;
 import bookface.commons.exceptions.DataConversionException;
-import bookface.commons.exceptions.IllegalValueException;
 import bookface.commons.util.FileUtil;
 import bookface.commons.util.JsonUtil;
 import bookface.model.ReadOnlyBookFace;
 
 /**
  * A class to access BookFace data stored as a json file on the hard disk.
+ * The previous versions of the file are kept as rotating backups next to it, and are read instead when the file
+ * itself cannot be read.
  */
 public class JsonBookFaceStorage implements BookFaceStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonBookFaceStorage.class);
+    public static final int DEFAULT_BACKUP_COUNT = 3;
 
     private final Path filePath;
+    private final int backupCount;
 
     public JsonBookFaceStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonBookFaceStorage} for the file at {@code filePath} that keeps up to {@code backupCount}
+     * previous versions of the file.
+     */
+    public JsonBookFaceStorage(Path filePath, int backupCount) {
+        assert backupCount >= 0;
         this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Converts {@code bookFace} to json and back without touching any file, so that Jackson creates the serializers
+     * and deserializers of the data file before the first save rather than during it.
+     */
+    public static void warmUp(ReadOnlyBookFace bookFace) throws IOException {
+        requireNonNull(bookFace);
+        String json = JsonUtil.toJsonString(new JsonSerializableBookFace(bookFace));
+        JsonUtil.fromJsonString(json, JsonSerializableBookFace.class);
     }
 
     public Path getBookFaceFilePath() {
@@ -38,25 +58,15 @@ public class JsonBookFaceStorage implements BookFaceStorage {
 
     /**
      * Similar to {@link #readBookFace()}.
+     * Files saved in any other {@link bookface.commons.core.DataFormat} are detected and read as well.
+     * If the file is not in the correct format, the newest backup that is is read instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor any of its backups are in the correct format.
      */
     public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableBookFace> jsonBookFace = JsonUtil.readJsonFile(
-                filePath, JsonSerializableBookFace.class);
-        if (jsonBookFace.isEmpty()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonBookFace.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return BookFaceFileReader.read(filePath, backupCount);
     }
 
     @Override
@@ -73,7 +83,8 @@ public class JsonBookFaceStorage implements BookFaceStorage {
         requireNonNull(bookFace);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.rotateBackups(filePath, backupCount);
         JsonUtil.saveJsonFile(new JsonSerializableBookFace(bookFace), filePath);
     }
 
@@ -0,0 +1,121 @@
+package bookface.storage;
+
+import static bookface.storage.JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK;
+import static bookface.storage.JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.JsonUtil;
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Reads a BookFace json file one record at a time, converting each person and book straight into a
+ * {@code BookFace} as it is read. Unlike {@link JsonSerializableBookFace}, no intermediate tree of adapted
+ * objects is built, so memory use beyond the model itself stays bounded by the size of a single record.
+ */
+class JsonBookFaceStreamReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonBookFaceStreamReader.class);
+
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_BOOKS = "books";
+
+    private final BookFace bookFace = new BookFace();
+    private int personCount = 0;
+    private int bookCount = 0;
+    private boolean hasDuplicatePerson = false;
+    private boolean hasDuplicateBook = false;
+
+    /**
+     * Reads the BookFace json file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static BookFace read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        return new JsonBookFaceStreamReader().readFrom(filePath);
+    }
+
+    private BookFace readFrom(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object at the root of " + filePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (FIELD_PERSONS.equals(fieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        addPerson(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                    }
+                } else if (FIELD_BOOKS.equals(fieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        addBook(JsonUtil.readValue(parser, JsonAdaptedBook.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (hasDuplicatePerson) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (hasDuplicateBook) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
+        }
+        return bookFace;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it, along with its loaned books, to the {@code BookFace}.
+     * Duplicates are logged with their position and skipped, so that every duplicate in the file is reported.
+     */
+    private void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        Person person = JsonSerializableBookFace.toModelPerson(jsonAdaptedPerson);
+        personCount++;
+        if (bookFace.hasPerson(person)) {
+            logger.warning(MESSAGE_DUPLICATE_PERSON + " entry " + personCount + ": " + person);
+            hasDuplicatePerson = true;
+            return;
+        }
+        bookFace.addPerson(person);
+        for (Book book : person.getLoanedBooksSet()) {
+            if (bookFace.hasBook(book)) {
+                logger.warning(MESSAGE_DUPLICATE_BOOK + " loaned by entry " + personCount + ": " + book);
+                hasDuplicateBook = true;
+            } else {
+                bookFace.addBook(book);
+            }
+        }
+    }
+
+    /**
+     * Converts {@code jsonAdaptedBook} and adds it to the {@code BookFace}.
+     * Duplicates are logged with their position and skipped, so that every duplicate in the file is reported.
+     */
+    private void addBook(JsonAdaptedBook jsonAdaptedBook) throws IllegalValueException {
+        Book book = JsonSerializableBookFace.toModelAvailableBook(jsonAdaptedBook);
+        bookCount++;
+        if (bookFace.hasBook(book)) {
+            logger.warning(MESSAGE_DUPLICATE_BOOK + " entry " + bookCount + ": " + book);
+            hasDuplicateBook = true;
+            return;
+        }
+        bookFace.addBook(book);
+    }
+}
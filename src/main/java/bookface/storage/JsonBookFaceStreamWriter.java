@@ -0,0 +1,56 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import bookface.commons.util.FileUtil;
+import bookface.commons.util.JsonUtil;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Writes a BookFace json file one record at a time, converting each person and book as it is written, in the same
+ * layout as {@link JsonSerializableBookFace}. The persons and books may be generated as they are iterated over, so
+ * memory use stays bounded by the size of a single record. Complements {@link JsonBookFaceStreamReader}.
+ */
+class JsonBookFaceStreamWriter {
+
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_BOOKS = "books";
+
+    /**
+     * Writes {@code persons}, each with the books it has on loan, and the books of {@code books} that are not on
+     * loan to the json file at {@code filePath}, replacing it if it exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(Path filePath, Iterable<Person> persons, Iterable<Book> books) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(persons);
+        requireNonNull(books);
+        FileUtil.createParentDirsOfFile(filePath);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FIELD_PERSONS);
+            for (Person person : persons) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            // books on loan are written with the persons who have them, as JsonSerializableBookFace does
+            generator.writeArrayFieldStart(FIELD_BOOKS);
+            for (Book book : books) {
+                if (!book.isLoaned()) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedBook(book));
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -1,21 +1,24 @@
 package bookface.storage;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import bookface.commons.core.LogsCenter;
 import bookface.commons.exceptions.IllegalValueException;
 import bookface.model.BookFace;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.book.Book;
 import bookface.model.person.Person;
+import bookface.model.util.UniquenessValidator;
 
 /**
  * An Immutable BookFace that is serializable to JSON format.
@@ -28,6 +31,8 @@ class JsonSerializableBookFace {
     public static final String MESSAGE_INVALID_LOANED_BOOK = "A Book is detected as a loaned Book when it "
             + "should not be loaned.";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableBookFace.class);
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     private final List<JsonAdaptedBook> books = new ArrayList<>();
@@ -55,49 +60,91 @@ class JsonSerializableBookFace {
 
     /**
      * Converts bookFace into the model's {@code BookFace} object.
+     * Persons and books are each checked for duplicates in a single pass, and every duplicate found is logged
+     * with its position before the conversion fails.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BookFace toModelType() throws IllegalValueException {
-        BookFace bookFace = new BookFace();
+        List<Person> modelPersons = new ArrayList<>();
+        List<Book> modelBooks = new ArrayList<>();
+        UniquenessValidator<Person> personValidator = new UniquenessValidator<>(Person::getName);
+        UniquenessValidator<Book> bookValidator = new UniquenessValidator<>(Function.identity());
+
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            if (jsonAdaptedPerson == null) {
-                throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
-            }
-            Person person = jsonAdaptedPerson.toModelType();
-            if (bookFace.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            bookFace.addPerson(person);
-            if (person.hasBooksOnLoan()) {
-                Set<Book> loanedBooks = person.getLoanedBooksSet();
-                for (Book book : loanedBooks) {
-                    if (book == null) {
-                        throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
-                    }
-                    Optional<Date> returnDate = book.getReturnDate();
-                    if (returnDate.isEmpty()) {
-                        throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
-                    }
-                    if (bookFace.hasBook(book)) {
-                        throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
-                    }
-                    book.loanTo(person, returnDate.get());
-                    bookFace.addBook(book);
-                }
+            Person person = toModelPerson(jsonAdaptedPerson);
+            personValidator.add(person);
+            modelPersons.add(person);
+            for (Book book : person.getLoanedBooksSet()) {
+                bookValidator.add(book);
+                modelBooks.add(book);
             }
         }
+        checkUnique(personValidator, MESSAGE_DUPLICATE_PERSON);
 
         for (JsonAdaptedBook jsonAdaptedBook : books) {
-            Book book = jsonAdaptedBook.toModelType();
-            if (bookFace.hasBook(book)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
-            } else if (book.isLoaned() || book.getReturnDateString().isPresent()) {
-                throw new IllegalValueException((MESSAGE_INVALID_LOANED_BOOK));
-            }
-            bookFace.addBook(book);
+            Book book = toModelAvailableBook(jsonAdaptedBook);
+            bookValidator.add(book);
+            modelBooks.add(book);
         }
+        checkUnique(bookValidator, MESSAGE_DUPLICATE_BOOK);
+
+        BookFace bookFace = new BookFace();
+        bookFace.setPersons(modelPersons);
+        bookFace.setBooks(modelBooks);
         return bookFace;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPerson} into the model's {@code Person} object, with each of its loaned books
+     * loaned to it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the person or its loaned books.
+     */
+    static Person toModelPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        if (jsonAdaptedPerson == null) {
+            throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
+        }
+        Person person = jsonAdaptedPerson.toModelType();
+        for (Book book : person.getLoanedBooksSet()) {
+            if (book == null) {
+                throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+            }
+            Optional<LocalDate> returnDate = book.getReturnDate();
+            if (returnDate.isEmpty()) {
+                throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+            }
+            book.loanTo(person, returnDate.get());
+        }
+        return person;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedBook} from the list of books that are not on loan into the model's {@code Book}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the book, or it is on loan.
+     */
+    static Book toModelAvailableBook(JsonAdaptedBook jsonAdaptedBook) throws IllegalValueException {
+        if (jsonAdaptedBook == null) {
+            throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+        }
+        Book book = jsonAdaptedBook.toModelType();
+        if (book.isLoaned() || book.getReturnDateString().isPresent()) {
+            throw new IllegalValueException((MESSAGE_INVALID_LOANED_BOOK));
+        }
+        return book;
+    }
+
+    /**
+     * Logs every duplicate found by {@code validator} and throws an {@code IllegalValueException} with
+     * {@code message} if there are any.
+     */
+    static void checkUnique(UniquenessValidator<?> validator, String message) throws IllegalValueException {
+        if (validator.isUnique()) {
+            return;
+        }
+        validator.getDuplicates().forEach(duplicate -> logger.warning(message + " " + duplicate));
+        throw new IllegalValueException(message);
+    }
+
 }
@@ -0,0 +1,25 @@
+package bookface.storage;
+
+import java.util.function.Function;
+
+import bookface.commons.exceptions.IllegalValueException;
+
+/**
+ * Creates the model's values from stored strings. Each value's constructor already validates its string, so the
+ * string is validated once by constructing the value, rather than once before constructing it and again inside.
+ */
+class ModelValues {
+
+    /**
+     * Returns the value that {@code constructor} creates from {@code value}.
+     *
+     * @throws IllegalValueException with the constructor's message if {@code value} is not a valid value.
+     */
+    static <T> T create(Function<String, T> constructor, String value) throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+}
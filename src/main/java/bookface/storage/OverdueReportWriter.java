@@ -0,0 +1,118 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.util.CsvUtil;
+import bookface.commons.util.DateUtil;
+import bookface.commons.util.FileUtil;
+import bookface.model.OverdueListener;
+import bookface.model.book.Book;
+
+/**
+ * Keeps a CSV report of the books that became overdue, with one row per book, appended as the books become overdue.
+ * The report outlives the loans in it, so that it can be handed on after the books are returned.
+ * The rows are taken from the books on the thread that reports them, as the books may change afterwards, and are
+ * written to the file in the background, so that the JavaFX application thread never waits for the disk.
+ */
+public class OverdueReportWriter implements OverdueListener {
+
+    public static final List<String> COLUMNS = List.of("name", "title", "author", "due date", "overdue since");
+
+    private static final Logger logger = LogsCenter.getLogger(OverdueReportWriter.class);
+
+    private final Path filePath;
+    private final Executor writer;
+
+    /**
+     * Creates an {@code OverdueReportWriter} that appends to the CSV file at {@code filePath}, creating it if needed,
+     * on a background thread of its own.
+     */
+    public OverdueReportWriter(Path filePath) {
+        this(filePath, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BookFace overdue report writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code OverdueReportWriter} that appends to the CSV file at {@code filePath}, creating it if needed,
+     * on {@code writer}, which must run the appends one at a time in the order they are given.
+     */
+    public OverdueReportWriter(Path filePath, Executor writer) {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+        this.filePath = filePath;
+        this.writer = writer;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void booksBecameOverdue(List<Book> books, LocalDate sweepDate) {
+        List<String> rows = toRows(books, sweepDate);
+        writer.execute(() -> {
+            try {
+                append(rows);
+            } catch (IOException ioe) {
+                // the report is a convenience, so failing to write it must not stop the sweeps
+                logger.warning("Could not write the overdue report to " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Returns a CSV row for each of {@code books} that is still on loan, which became overdue on {@code sweepDate}.
+     */
+    private static List<String> toRows(List<Book> books, LocalDate sweepDate) {
+        String overdueSince = DateUtil.format(sweepDate);
+        List<String> rows = new ArrayList<>();
+        for (Book book : books) {
+            if (!book.isLoaned()) {
+                continue;
+            }
+            rows.add(CsvUtil.formatRow(List.of(book.getLoanee().get().getName().fullName,
+                    book.getTitle().bookTitle, book.getAuthor().bookAuthor,
+                    DateUtil.format(book.getReturnDate().get()), overdueSince)));
+        }
+        return rows;
+    }
+
+    /**
+     * Appends {@code rows} to the report, writing the header first if the report is new.
+     */
+    private void append(List<String> rows) throws IOException {
+        boolean isNewReport = !FileUtil.isFileExists(filePath);
+        if (isNewReport) {
+            FileUtil.createIfMissing(filePath);
+        }
+
+        try (BufferedWriter reportWriter = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            if (isNewReport) {
+                reportWriter.write(CsvUtil.formatRow(COLUMNS));
+                reportWriter.newLine();
+            }
+            for (String row : rows) {
+                reportWriter.write(row);
+                reportWriter.newLine();
+            }
+        }
+    }
+}
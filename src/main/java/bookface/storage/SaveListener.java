@@ -0,0 +1,21 @@
+package bookface.storage;
+
+import java.io.IOException;
+
+/**
+ * Receives the outcome of the saves that a {@code Storage} writes in the background, after the command that asked
+ * for them has returned.
+ * All methods do nothing by default, so that implementations only override the outcomes they are interested in.
+ */
+public interface SaveListener {
+
+    /**
+     * Called after a background save fails with {@code exception}. The data is saved again with the next change.
+     */
+    default void saveFailed(IOException exception) {}
+
+    /**
+     * Called after a background save succeeds, so that an earlier failure is no longer current.
+     */
+    default void saveSucceeded() {}
+}
@@ -29,4 +29,16 @@ public interface Storage extends BookFaceStorage, UserPrefsStorage {
     @Override
     void saveBookFace(ReadOnlyBookFace bookFace) throws IOException;
 
+    /**
+     * Waits until all data saved so far has been written to the hard disk.
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Registers {@code listener} to be notified of the outcome of saves written in the background.
+     * Storages that write every save before it returns report failures by throwing, and never notify listeners.
+     */
+    default void addSaveListener(SaveListener listener) {}
+
 }
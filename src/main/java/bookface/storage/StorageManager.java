@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         bookFaceStorage.saveBookFace(bookFace, filePath);
     }
 
+    @Override
+    public void flush() {
+        // data is written before the save methods return
+    }
+
 }
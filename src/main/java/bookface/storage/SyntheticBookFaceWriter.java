@@ -0,0 +1,97 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import bookface.commons.core.DataFormat;
+import bookface.model.util.BookFaceGenerator;
+
+/**
+ * Writes the BookFaces generated by a {@link BookFaceGenerator} to data files, for load and scale testing.
+ * Can be run on its own with the arguments
+ * {@code TARGET_FILE PERSON_COUNT BOOK_COUNT [seed=SEED] [loans=RATIO] [overdue=RATIO] [tags=COUNT] [format=FORMAT]}.
+ */
+public class SyntheticBookFaceWriter {
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticBookFaceWriter TARGET_FILE PERSON_COUNT BOOK_COUNT "
+            + "[seed=SEED] [loans=RATIO] [overdue=RATIO] [tags=COUNT] [format=(json|binary)]";
+    public static final long DEFAULT_SEED = 42;
+
+    /**
+     * Writes the BookFace generated by {@code generator} to {@code filePath} in {@code format}, replacing any
+     * existing file. Json files are written as the persons and books are generated, so that BookFaces larger than
+     * the heap can be written; other formats are written from the whole generated BookFace.
+     *
+     * @throws IOException if there was any problem writing to {@code filePath}.
+     */
+    public static void write(BookFaceGenerator generator, Path filePath, DataFormat format) throws IOException {
+        requireNonNull(generator);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        if (format == DataFormat.JSON) {
+            JsonBookFaceStreamWriter.write(filePath, generator.getPersons(), generator.getAvailableBooks());
+        } else {
+            BookFaceFileConverter.createStorage(format, filePath).saveBookFace(generator.generate());
+        }
+    }
+
+    /**
+     * Generates a BookFace as described by the arguments and writes it to the file named by the first argument.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        long seed = DEFAULT_SEED;
+        DataFormat format = DataFormat.JSON;
+        Double loanRatio = null;
+        Double overdueRatio = null;
+        Integer tagCount = null;
+        try {
+            for (int i = 3; i < args.length; i++) {
+                String[] option = args[i].split("=", 2);
+                String value = option.length == 2 ? option[1] : "";
+                switch (option[0]) {
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "loans":
+                    loanRatio = Double.parseDouble(value);
+                    break;
+                case "overdue":
+                    overdueRatio = Double.parseDouble(value);
+                    break;
+                case "tags":
+                    tagCount = Integer.parseInt(value);
+                    break;
+                case "format":
+                    format = DataFormat.valueOf(value.toUpperCase());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+
+            BookFaceGenerator generator = new BookFaceGenerator(seed, Integer.parseInt(args[1]),
+                    Integer.parseInt(args[2]));
+            if (loanRatio != null) {
+                generator.setLoanRatio(loanRatio);
+            }
+            if (overdueRatio != null) {
+                generator.setOverdueRatio(overdueRatio);
+            }
+            if (tagCount != null) {
+                generator.setTagCount(tagCount);
+            }
+            write(generator, Paths.get(args[0]), format);
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        }
+    }
+}
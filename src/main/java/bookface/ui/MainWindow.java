@@ -1,5 +1,6 @@
 package bookface.ui;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import bookface.commons.core.GuiSettings;
@@ -8,6 +9,8 @@ import bookface.logic.Logic;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.OverdueListener;
+import bookface.storage.SaveListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -124,8 +127,26 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getBookFaceFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getBookFaceFilePath(),
+                logic.getOverdueBookCount());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.addOverdueListener(new OverdueListener() {
+            @Override
+            public void overdueBookCountChanged(int overdueBookCount) {
+                statusBarFooter.setOverdueBookCount(overdueBookCount);
+            }
+        });
+        logic.addSaveListener(new SaveListener() {
+            @Override
+            public void saveFailed(IOException exception) {
+                statusBarFooter.showSaveFailure(exception.getMessage());
+            }
+
+            @Override
+            public void saveSucceeded() {
+                statusBarFooter.clearSaveFailure();
+            }
+        });
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
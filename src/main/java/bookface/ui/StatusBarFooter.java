@@ -14,15 +14,47 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    public static final String OVERDUE_STATUS = "%1$d overdue";
+    public static final String SAVE_FAILED_STATUS = "%1$s (not saved: %2$s)";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label overdueStatus;
+
+    private final String saveLocation;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path} and number of overdue books.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, int overdueBookCount) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        this.saveLocation = Paths.get(".").resolve(saveLocation).toString();
+        saveLocationStatus.setText(this.saveLocation);
+        setOverdueBookCount(overdueBookCount);
+    }
+
+    /**
+     * Shows {@code overdueBookCount} as the number of overdue books.
+     */
+    public void setOverdueBookCount(int overdueBookCount) {
+        overdueStatus.setText(String.format(OVERDUE_STATUS, overdueBookCount));
+    }
+
+    /**
+     * Shows that the data could not be saved to the save location because of {@code reason}, until
+     * {@link #clearSaveFailure()} is called.
+     */
+    public void showSaveFailure(String reason) {
+        saveLocationStatus.setText(String.format(SAVE_FAILED_STATUS, saveLocation, reason));
+    }
+
+    /**
+     * Shows only the save location again, once the data is saved.
+     */
+    public void clearSaveFailure() {
+        saveLocationStatus.setText(saveLocation);
     }
 
 }
@@ -0,0 +1,38 @@
+package bookface.commons.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseRow_plainFields_splitAtCommas() {
+        assertEquals(List.of("a", "b c", ""), CsvUtil.parseRow("a,b c,"));
+        assertEquals(List.of(""), CsvUtil.parseRow(""));
+    }
+
+    @Test
+    public void parseRow_quotedFields_unquoted() {
+        assertEquals(List.of("a, b", "say \"hi\"", "c"), CsvUtil.parseRow("\"a, b\",\"say \"\"hi\"\"\",c"));
+        assertEquals(List.of("", "x"), CsvUtil.parseRow("\"\",x"));
+    }
+
+    @Test
+    public void parseRow_invalidQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseRow("\"open,field"));
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.parseRow("\"closed\"text,field"));
+    }
+
+    @Test
+    public void formatRow_parseRow_roundTrips() {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "");
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",", CsvUtil.formatRow(fields));
+        assertEquals(fields, CsvUtil.parseRow(CsvUtil.formatRow(fields)));
+    }
+}
@@ -1,6 +1,7 @@
 package bookface.commons.util;
 
 import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -131,6 +132,41 @@ public class StringUtilTest {
         assertTrue(StringUtil.matchesWholeWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsPartialWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsPartialWordIgnoreCase_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.containsPartialWordIgnoreCase("typical sentence", " \t "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsPartialWordIgnoreCase("typical sentence", "pical sen"));
+    }
+
+    @Test
+    public void containsPartialWordIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.containsPartialWordIgnoreCase("ABc def", "ab"));
+        assertTrue(StringUtil.containsPartialWordIgnoreCase("ABc def", "DE"));
+        assertTrue(StringUtil.containsPartialWordIgnoreCase("  aaa\tbBb  ", "BB"));
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("ABc def", "Ac"));
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("", "abc"));
+
+        // a word with leading or trailing whitespace never lies within a single word of the sentence
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("abc def", "c "));
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("abc def", " def"));
+    }
+
+    @Test
+    public void foldCase_foldedTextContainsFoldedKeyword_sameAsIgnoringCase() {
+        String[] texts = {"Abc", "Ǳemal", "ǆungla", "İstanbul", "KELVIN", "ΣΊΣΥΦΟΣ"};
+        String[] keywords = {"aBC", "ǲe", "Ǆun", "ist", "kelvin", "σίσ", "ς", "x"};
+        for (String text : texts) {
+            for (String keyword : keywords) {
+                assertEquals(StringUtil.containsPartialWordIgnoreCase(text, keyword),
+                        StringUtil.foldCase(text).contains(StringUtil.foldCase(keyword)), text + " " + keyword);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
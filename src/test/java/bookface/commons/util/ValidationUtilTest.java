@@ -0,0 +1,68 @@
+package bookface.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Author;
+import bookface.model.book.Title;
+import bookface.model.person.Email;
+import bookface.model.person.Name;
+import bookface.model.person.Phone;
+import bookface.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters that exercise every branch of the validators, including non-ASCII letters and digits. */
+    private static final String ALPHABET = "aZ09 @.-+_!~é٣\t";
+    private static final int SAMPLES = 20000;
+
+    @Test
+    public void characterClasses_matchRegexCharacterClasses() {
+        for (char c = 0; c < 512; c++) {
+            String s = String.valueOf(c);
+            assertEquals(s.matches("\\p{Alnum}"), ValidationUtil.isAlphanumeric(c), "character " + (int) c);
+            assertEquals(s.matches("\\d"), ValidationUtil.isDigit(c), "character " + (int) c);
+            assertEquals(s.matches("\\p{Punct}"), ValidationUtil.isPunctuation(c), "character " + (int) c);
+        }
+    }
+
+    @Test
+    public void matches() {
+        assertFalse(ValidationUtil.matches("", c -> true, c -> true));
+        assertFalse(ValidationUtil.matches(" a", ValidationUtil::isAlphanumeric, c -> true));
+        assertFalse(ValidationUtil.matches("a!", ValidationUtil::isAlphanumeric, ValidationUtil::isAlphanumeric));
+        assertTrue(ValidationUtil.matches("a", ValidationUtil::isAlphanumeric, c -> false));
+        assertTrue(ValidationUtil.matches("a1B", ValidationUtil::isAlphanumeric, ValidationUtil::isAlphanumeric));
+    }
+
+    @Test
+    public void validators_randomStrings_agreeWithValidationRegexes() {
+        assertAgreesWithRegex(Name::isValidName, Name.VALIDATION_REGEX);
+        assertAgreesWithRegex(Author::isValidAuthor, Author.VALIDATION_REGEX);
+        assertAgreesWithRegex(Title::isValidTitle, Title.VALIDATION_REGEX);
+        assertAgreesWithRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX);
+        assertAgreesWithRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX);
+        assertAgreesWithRegex(Email::isValidEmail, Email.VALIDATION_REGEX);
+    }
+
+    private void assertAgreesWithRegex(Predicate<String> validator, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                test.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String s = test.toString();
+            assertEquals(pattern.matcher(s).matches(), validator.test(s), "\"" + s + "\" against " + regex);
+        }
+    }
+}
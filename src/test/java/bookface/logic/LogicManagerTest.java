@@ -94,6 +94,30 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_mixedCommands_savesOnlyAfterChanges() throws Exception {
+        JsonBookFaceSaveCountingStub bookFaceStorage =
+                new JsonBookFaceSaveCountingStub(temporaryFolder.resolve("countingBookFace.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(bookFaceStorage, userPrefsStorage));
+
+        logic.execute("list users");
+        logic.execute("add user" + CommandTestUtil.NAME_DESC_AMY + CommandTestUtil.PHONE_DESC_AMY
+                + CommandTestUtil.EMAIL_DESC_AMY);
+        logic.execute("find user " + CommandTestUtil.VALID_NAME_AMY);
+        logic.execute("list books");
+        logic.execute("add book t/" + CommandTestUtil.VALID_TITLE_GETMOTIVATED
+                + " a/" + CommandTestUtil.VALID_AUTHOR_LCT);
+        logic.execute("list all");
+        logic.execute("help");
+        assertThrows(CommandException.class, () -> logic.execute("delete user 9"));
+        logic.execute("delete user 1");
+        logic.execute("exit");
+
+        assertEquals(3, bookFaceStorage.saveCount);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -170,4 +194,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts how many times the save method is called.
+     */
+    private static class JsonBookFaceSaveCountingStub extends JsonBookFaceStorage {
+        private int saveCount = 0;
+
+        private JsonBookFaceSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+            saveCount++;
+            super.saveBookFace(bookFace, filePath);
+        }
+    }
 }
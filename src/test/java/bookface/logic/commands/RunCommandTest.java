@@ -0,0 +1,99 @@
+package bookface.logic.commands;
+
+import static bookface.logic.commands.CommandTestUtil.assertCommandFailure;
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.commons.core.Messages;
+import bookface.logic.parser.RunCommandParser;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.UserPrefs;
+import bookface.model.book.Book;
+import bookface.testutil.BookBuilder;
+
+public class RunCommandTest {
+    private final Model model = new ModelManager(getAllTypicalBookFaceData(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_appliesAllCommands() throws Exception {
+        Book firstBook = new BookBuilder().withTitle("Batch One").withAuthor("Ann Lee").build();
+        Book secondBook = new BookBuilder().withTitle("Batch Two").withAuthor("Ann Lee").build();
+        RunCommand runCommand = parse("add book t/Batch One a/Ann Lee", "", "# a comment",
+                "add book t/Batch Two a/Ann Lee", "loan 1 1");
+
+        CommandResult result = runCommand.execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3), result.getFeedbackToUser());
+        assertTrue(model.hasBook(firstBook));
+        assertTrue(model.hasBook(secondBook));
+        assertTrue(model.getBookFace().getPersonList().get(0).hasBooksOnLoan());
+        assertFalse(runCommand.isReadOnly());
+    }
+
+    @Test
+    public void execute_commandFails_noCommandsApplied() throws Exception {
+        List<Book> expectedBooks = new ArrayList<>(model.getBookFace().getBookList());
+        RunCommand runCommand = parse("add book t/Batch One a/Ann Lee", "loan 1 1", "return 999");
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 3,
+                Messages.MESSAGE_INVALID_BOOK_DISPLAYED_INDEX));
+        assertEquals(expectedBooks, model.getBookFace().getBookList());
+        assertFalse(model.getBookFace().getPersonList().get(0).hasBooksOnLoan());
+    }
+
+    @Test
+    public void execute_readOnlyCommands_modelUnchanged() throws Exception {
+        long versionBefore = model.getBookFaceVersion();
+        RunCommand runCommand = parse("list all", "find book computer");
+
+        runCommand.execute(model);
+
+        assertTrue(runCommand.isReadOnly());
+        assertEquals(versionBefore, model.getBookFaceVersion());
+    }
+
+    @Test
+    public void execute_nestedRun_throwsParseException() {
+        assertThrows(ParseException.class, String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2,
+                RunCommandParser.MESSAGE_NESTED_RUN), () -> parse("list all", "run other.txt"));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        RunCommand runCommand = parse("list all");
+
+        // same object -> returns true
+        assertEquals(runCommand, runCommand);
+
+        // same values -> returns true
+        assertEquals(runCommand, parse("list all"));
+
+        // different types -> returns false
+        assertNotEquals(1, runCommand);
+
+        // null -> returns false
+        assertNotEquals(null, runCommand);
+
+        // different commands -> returns false
+        assertNotEquals(runCommand, parse("list books"));
+
+        // same commands on different lines -> returns false
+        assertNotEquals(runCommand, parse("", "list all"));
+    }
+
+    private static RunCommand parse(String... lines) throws ParseException {
+        return RunCommandParser.parseLines(Arrays.asList(lines));
+    }
+}
@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.BookFace;
+import bookface.model.BookFaceListener;
 import bookface.model.Model;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.ReadOnlyUserPrefs;
@@ -92,6 +95,11 @@ public class AddUserCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Clock getClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public GuiSettings getGuiSettings() {
             throw new AssertionError("This method should not be called.");
@@ -122,11 +130,66 @@ public class AddUserCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBooks(List<Book> books) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyBookFace getBookFace() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getBookFaceVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Book> getOverdueBooks() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Book> getBooksDueWithin(int days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Book> getBooksDueBetween(LocalDate fromDate, LocalDate toDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDate> getNextDueDate(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getOverdueBookCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addBookFaceListener(BookFaceListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +235,26 @@ public class AddUserCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findPersons(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findBooks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findBooks(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addBook(Book book) {
             throw new AssertionError("This method should not be called.");
@@ -183,7 +266,7 @@ public class AddUserCommandTest {
         }
 
         @Override
-        public void loan(Person person, Book book, Date returnDate) {
+        public void loan(Person person, Book book, LocalDate returnDate) {
             throw new AssertionError("This method should not be called.");
         }
 
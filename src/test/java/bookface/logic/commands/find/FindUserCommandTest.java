@@ -30,19 +30,14 @@ public class FindUserCommandTest {
 
     @Test
     public void equals() {
-        ObjectContainsKeywordsPredicate<Person, String> firstPredicate =
-                preparePredicateToCheckPersonForPartialWordIgnoreCase(Collections.singletonList("first"));
-        ObjectContainsKeywordsPredicate<Person, String> secondPredicate =
-                preparePredicateToCheckPersonForPartialWordIgnoreCase(Collections.singletonList("second"));
-
-        FindUserCommand findFirstCommand = new FindUserCommand(firstPredicate);
-        FindUserCommand findSecondCommand = new FindUserCommand(secondPredicate);
+        FindUserCommand findFirstCommand = new FindUserCommand(Collections.singletonList("first"));
+        FindUserCommand findSecondCommand = new FindUserCommand(Collections.singletonList("second"));
 
         // same object -> returns true
         assertEquals(findFirstCommand, findFirstCommand);
 
         // same values -> returns true
-        FindUserCommand findFirstCommandCopy = new FindUserCommand(firstPredicate);
+        FindUserCommand findFirstCommandCopy = new FindUserCommand(Collections.singletonList("first"));
         assertEquals(findFirstCommand, findFirstCommandCopy);
 
         // different types -> returns false
@@ -60,7 +55,7 @@ public class FindUserCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         ObjectContainsKeywordsPredicate<Person, String> predicate =
                 preparePredicateToCheckPersonForPartialWordIgnoreCase(" ");
-        FindUserCommand command = new FindUserCommand(predicate);
+        FindUserCommand command = new FindUserCommand(Collections.emptyList());
         expectedModel.updateFilteredPersonList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
@@ -71,7 +66,7 @@ public class FindUserCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
         ObjectContainsKeywordsPredicate<Person, String> predicate =
                 preparePredicateToCheckPersonForPartialWordIgnoreCase("Kurz Elle Kunz");
-        FindUserCommand command = new FindUserCommand(predicate);
+        FindUserCommand command = new FindUserCommand(Arrays.asList("Kurz", "Elle", "Kunz"));
         expectedModel.updateFilteredPersonList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
@@ -0,0 +1,71 @@
+package bookface.logic.commands.transfer;
+
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.logic.commands.CommandResult;
+import bookface.model.BookFace;
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.UserPrefs;
+
+public class ExportCommandTest {
+    @TempDir
+    public Path testFolder;
+
+    // a copy, so that the typical persons and books are not changed by loans
+    private final Model model = new ModelManager(BookFace.deepCopyOf(getAllTypicalBookFaceData()), new UserPrefs());
+
+    @Test
+    public void execute_books_writesHeaderAndEveryBook() throws Exception {
+        Path filePath = testFolder.resolve("export").resolve("books.csv");
+
+        CommandResult result = new ExportBooksCommand(filePath).execute(model);
+
+        int bookCount = model.getBookFace().getBookList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, bookCount, filePath), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals("title,author", lines.get(0));
+        assertEquals(bookCount + 1, lines.size());
+        assertTrue(new ExportBooksCommand(filePath).isReadOnly());
+    }
+
+    @Test
+    public void execute_exportThenImport_sameBookFace() throws Exception {
+        Path booksFile = testFolder.resolve("books.csv");
+        Path usersFile = testFolder.resolve("users.csv");
+        Path loansFile = testFolder.resolve("loans.csv");
+        model.loan(model.getFilteredPersonList().get(0), model.getFilteredBookList().get(1),
+                LocalDate.of(2030, 1, 31));
+        new ExportBooksCommand(booksFile).execute(model);
+        new ExportUsersCommand(usersFile).execute(model);
+        new ExportLoansCommand(loansFile).execute(model);
+
+        Model importedModel = new ModelManager();
+        new ImportBooksCommand(booksFile).execute(importedModel);
+        new ImportUsersCommand(usersFile).execute(importedModel);
+        new ImportLoansCommand(loansFile).execute(importedModel);
+
+        assertEquals(model.getBookFace().getPersonList(), importedModel.getBookFace().getPersonList());
+        assertEquals(new HashSet<>(model.getBookFace().getBookList()),
+                new HashSet<>(importedModel.getBookFace().getBookList()));
+        assertEquals(2, Files.readAllLines(loansFile).size());
+        assertEquals(Files.readAllLines(loansFile), exportLoans(importedModel));
+    }
+
+    private List<String> exportLoans(Model model) throws Exception {
+        Path filePath = testFolder.resolve("reexported-loans.csv");
+        new ExportLoansCommand(filePath).execute(model);
+        return Files.readAllLines(filePath);
+    }
+}
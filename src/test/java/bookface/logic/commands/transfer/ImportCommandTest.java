@@ -0,0 +1,139 @@
+package bookface.logic.commands.transfer;
+
+import static bookface.logic.commands.CommandTestUtil.assertCommandFailure;
+import static bookface.testutil.TypicalPersons.ALICE;
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.core.Messages;
+import bookface.logic.commands.CommandResult;
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.UserPrefs;
+import bookface.model.book.Book;
+import bookface.model.person.Name;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.TypicalBooks;
+
+public class ImportCommandTest {
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getAllTypicalBookFaceData(), new UserPrefs());
+
+    @Test
+    public void execute_books_importsValidRowsAndRejectsOthers() throws Exception {
+        Path filePath = write("books.csv", "title,author", "New Book,Ann Lee", "", "\"Comma, Book\",Bo Tan",
+                "How to Spell,Ronald Johnson", "New Book,Ann Lee", "Missing Author");
+        int bookCount = model.getBookFace().getBookList().size();
+
+        CommandResult result = new ImportBooksCommand(filePath).execute(model);
+
+        Path rejectFilePath = testFolder.resolve("books" + ImportCommand.REJECT_FILE_SUFFIX);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 5, filePath)
+                + String.format(ImportCommand.MESSAGE_REJECTED, 3, rejectFilePath), result.getFeedbackToUser());
+        assertEquals(bookCount + 2, model.getBookFace().getBookList().size());
+        assertTrue(model.hasBook(new BookBuilder().withTitle("Comma, Book").withAuthor("Bo Tan").build()));
+
+        List<String> rejects = Files.readAllLines(rejectFilePath);
+        assertEquals(4, rejects.size());
+        assertEquals("title,author,reason", rejects.get(0));
+        assertEquals("How to Spell,Ronald Johnson,Line 5: " + Messages.MESSAGE_DUPLICATE_BOOK, rejects.get(1));
+        assertEquals("New Book,Ann Lee,Line 6: " + Messages.MESSAGE_DUPLICATE_BOOK, rejects.get(2));
+        assertTrue(rejects.get(3).startsWith("Missing Author,\"Line 7: Expected 2 fields"));
+    }
+
+    @Test
+    public void execute_allRowsValid_noRejectFile() throws Exception {
+        Path rejectFilePath = write("users" + ImportCommand.REJECT_FILE_SUFFIX, "stale rejects");
+        Path filePath = write("users.csv", "Zed Zulu,91234567,zed@example.com,friends vip", "Yan Yu,81234567,"
+                + "yan@example.com,");
+
+        new ImportUsersCommand(filePath).execute(model);
+
+        assertTrue(model.getBookFace().getPersonList().stream()
+                .anyMatch(person -> person.getName().equals(new Name("Zed Zulu")) && person.getTags().size() == 2));
+        assertFalse(Files.exists(rejectFilePath));
+    }
+
+    @Test
+    public void execute_loans_loansExistingBooksToExistingUsers() throws Exception {
+        Path filePath = write("loans.csv", "name,title,author,due date",
+                ALICE.getName().fullName + ",How to Spell,Ronald Johnson,2030-01-31",
+                ALICE.getName().fullName + ",How to Spell,Ronald Johnson,2030-01-31",
+                "Nobody Here,Making a Computer,Roger Smith,2030-01-31",
+                ALICE.getName().fullName + ",Get Motivated,Lim Chee Teck,31 Jan");
+
+        CommandResult result = new ImportLoansCommand(filePath).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 4,
+                filePath)));
+        Book loanedBook = model.getBookFace().getBookList().stream()
+                .filter(book -> book.equals(TypicalBooks.HOW_TO_SPELL)).findFirst().get();
+        assertEquals(ALICE.getName(), loanedBook.getLoanee().get().getName());
+        // the typical book itself is not changed, as the loan is made on a copy of BookFace
+        assertFalse(TypicalBooks.HOW_TO_SPELL.isLoaned());
+
+        List<String> rejects = Files.readAllLines(ImportCommand.getRejectFilePath(filePath));
+        assertTrue(rejects.get(1).endsWith("Line 3: " + ImportLoansCommand.MESSAGE_ALREADY_ON_LOAN));
+        assertTrue(rejects.get(2).endsWith("Line 4: " + ImportLoansCommand.MESSAGE_UNKNOWN_USER));
+        assertTrue(rejects.get(3).endsWith("Line 5: " + ImportLoansCommand.MESSAGE_INVALID_DUE_DATE));
+    }
+
+    @Test
+    public void execute_rowsInSeveralChunks_keepsFileOrder() throws Exception {
+        String[] lines = new String[10000];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "Volume " + i + ",Ann Lee";
+        }
+        lines[9999] = lines[0];
+        Path filePath = write("books.csv", lines);
+        int bookCount = model.getBookFace().getBookList().size();
+
+        CommandResult result = new ImportBooksCommand(filePath).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 9999, 10000,
+                filePath)));
+        List<Book> books = model.getBookFace().getBookList();
+        assertEquals(bookCount + 9999, books.size());
+        assertEquals(new BookBuilder().withTitle("Volume 9998").withAuthor("Ann Lee").build(),
+                books.get(books.size() - 1));
+        assertEquals("Volume 0,Ann Lee,Line 10000: " + Messages.MESSAGE_DUPLICATE_BOOK,
+                Files.readAllLines(testFolder.resolve("books" + ImportCommand.REJECT_FILE_SUFFIX)).get(1));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportBooksCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE, filePath, filePath));
+    }
+
+    @Test
+    public void equals() {
+        Path filePath = testFolder.resolve("books.csv");
+        ImportBooksCommand importBooksCommand = new ImportBooksCommand(filePath);
+
+        assertEquals(importBooksCommand, importBooksCommand);
+        assertEquals(importBooksCommand, new ImportBooksCommand(filePath));
+        assertFalse(importBooksCommand.equals(null));
+        assertFalse(importBooksCommand.equals(new ImportUsersCommand(filePath)));
+        assertFalse(importBooksCommand.equals(new ImportBooksCommand(testFolder.resolve("other.csv"))));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+}
@@ -10,18 +10,14 @@ import static java.util.Calendar.SUNDAY;
 import static java.util.Calendar.TUESDAY;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
-import bookface.commons.core.Messages;
+import bookface.commons.util.DateUtil;
 import bookface.logic.commands.LoanCommand;
-import bookface.logic.parser.exceptions.ParseException;
 import bookface.testutil.TypicalIndexes;
 
 public class LoanCommandParserTest {
@@ -32,8 +28,8 @@ public class LoanCommandParserTest {
      * @param days the number of days to be added to today's date (can be negative)
      * @return a date with the amount of days added to today's date
      */
-    private Date createDate(int days) {
-        return new Date(new java.util.Date().getTime() + TimeUnit.DAYS.toMillis(days));
+    private LocalDate createDate(int days) {
+        return LocalDate.now().plusDays(days);
     }
 
     //Below getDateOnDay code from
@@ -46,12 +42,12 @@ public class LoanCommandParserTest {
      * @param weeks - number of weeks to adjust by
      * @return last day of week before specified date.
      */
-    private static Date getDateOnDay(Date date, int day, int weeks) {
+    private static LocalDate getDateOnDay(LocalDate date, int day, int weeks) {
         Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
+        cal.setTime(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
         cal.add(Calendar.WEEK_OF_YEAR, weeks);
         cal.set(Calendar.DAY_OF_WEEK, day);
-        return cal.getTime();
+        return DateUtil.toLocalDate(cal.getTime());
     }
 
     @Test
@@ -109,33 +105,15 @@ public class LoanCommandParserTest {
     }
 
     @Test
-    public void parse_yyyymmdd_success() throws ParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        formatter = formatter.withResolverStyle(ResolverStyle.SMART);
-        Date date;
-        try {
-            LocalDate ld = LocalDate.parse("2022-10-25", formatter);
-            date = java.sql.Date.valueOf(ld);
-        } catch (DateTimeParseException e) {
-            throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
-        }
-        assertParseSuccess(parser, "1 1 2022-10-25",
-                new LoanCommand(TypicalIndexes.INDEX_FIRST_PERSON, TypicalIndexes.INDEX_FIRST_BOOK, date));
+    public void parse_yyyymmdd_success() {
+        assertParseSuccess(parser, "1 1 2022-10-25", new LoanCommand(TypicalIndexes.INDEX_FIRST_PERSON,
+                TypicalIndexes.INDEX_FIRST_BOOK, LocalDate.of(2022, 10, 25)));
     }
 
     @Test
-    public void parse_ddmmyyyy_success() throws ParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        formatter = formatter.withResolverStyle(ResolverStyle.SMART);
-        Date date;
-        try {
-            LocalDate ld = LocalDate.parse("31/10/2022", formatter);
-            date = java.sql.Date.valueOf(ld);
-        } catch (DateTimeParseException e) {
-            throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
-        }
-        assertParseSuccess(parser, "1 1 31/10/2022",
-                new LoanCommand(TypicalIndexes.INDEX_FIRST_PERSON, TypicalIndexes.INDEX_FIRST_BOOK, date));
+    public void parse_ddmmyyyy_success() {
+        assertParseSuccess(parser, "1 1 31/10/2022", new LoanCommand(TypicalIndexes.INDEX_FIRST_PERSON,
+                TypicalIndexes.INDEX_FIRST_BOOK, LocalDate.of(2022, 10, 31)));
     }
 
 
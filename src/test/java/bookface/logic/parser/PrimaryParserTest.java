@@ -2,7 +2,6 @@ package bookface.logic.parser;
 
 import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static bookface.testutil.Assert.assertThrows;
-import static bookface.testutil.TestUtil.preparePredicateToCheckPersonForPartialWordIgnoreCase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -83,7 +82,7 @@ public class PrimaryParserTest {
         FindCommand command = (FindUserCommand) parser.parse(
                 FindCommand.COMMAND_WORD + " " + FindUserCommand.COMMAND_WORD + " "
                         + String.join(" ", keywords));
-        assertEquals(new FindUserCommand(preparePredicateToCheckPersonForPartialWordIgnoreCase(keywords)), command);
+        assertEquals(new FindUserCommand(keywords), command);
     }
 
     @Test
@@ -0,0 +1,96 @@
+package bookface.logic.parser;
+
+import static bookface.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import bookface.commons.util.DateUtil;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.testutil.ManualClock;
+
+public class ReturnDateResolverTest {
+
+    // a Wednesday, so that next week's Friday is the same whether weeks start on Sunday or Monday
+    private static final LocalDate TODAY = LocalDate.of(2022, 10, 26);
+
+    private final ReturnDateResolver resolver = new ReturnDateResolver(
+            new ManualClock(TimeUnit.DAYS.toMillis(TODAY.toEpochDay())), ReturnDateResolver.DEFAULT_CACHE_SIZE);
+
+    @Test
+    public void constructor_negativeCacheSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReturnDateResolver(Clock.systemDefaultZone(), -1));
+    }
+
+    @Test
+    public void resolve_dates_success() throws Exception {
+        assertEquals(Optional.of(LocalDate.of(2022, 10, 30)), resolver.resolve("2022-10-30"));
+        assertEquals(Optional.of(LocalDate.of(2022, 10, 31)), resolver.resolve("31/10/2022"));
+    }
+
+    @Test
+    public void resolve_invalidDate_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATE_FORMAT, () -> resolver.resolve("32/10/2022"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATE_FORMAT, () -> resolver.resolve("2022-13-01"));
+    }
+
+    @Test
+    public void resolve_commonPhrases_resolvedRelativeToClock() throws Exception {
+        assertEquals(Optional.of(TODAY), resolver.resolve("today"));
+        assertEquals(Optional.of(TODAY.plusDays(1)), resolver.resolve("Tomorrow"));
+        assertEquals(Optional.of(TODAY.plusDays(3)), resolver.resolve("in  3 days"));
+        assertEquals(Optional.of(TODAY.plusWeeks(2)), resolver.resolve("in 2 weeks"));
+        assertEquals(Optional.of(TODAY.plusMonths(1)), resolver.resolve("in a month"));
+        assertEquals(Optional.of(TODAY.plusWeeks(1)), resolver.resolve("next week"));
+        assertEquals(Optional.of(LocalDate.of(2022, 11, 4)), resolver.resolve("next Friday"));
+    }
+
+    @Test
+    public void resolve_commonPhrases_sameAsPrettyTime() throws Exception {
+        // PrettyTime resolves phrases relative to the system clock in the default time zone and locale, so the
+        // resolver is given the same time, and both are pinned to UTC and a locale whose weeks start on Sunday
+        Locale defaultLocale = Locale.getDefault();
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        Locale.setDefault(Locale.US);
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            ManualClock clock = new ManualClock(System.currentTimeMillis());
+            ReturnDateResolver utcResolver = new ReturnDateResolver(clock, 0);
+            PrettyTimeParser prettyTimeParser = new PrettyTimeParser();
+            Map<String, LocalDate> expectedDates = new LinkedHashMap<>();
+            for (String phrase : List.of("tomorrow", "in 3 days", "in 2 weeks", "next week", "next tuesday")) {
+                expectedDates.put(phrase, DateUtil.toLocalDate(prettyTimeParser.parse(phrase).get(0)));
+            }
+            // the phrases cannot be compared if PrettyTime resolved some of them on the next day
+            assumeTrue(LocalDate.now(clock).equals(LocalDate.now(ZoneOffset.UTC)));
+
+            for (Map.Entry<String, LocalDate> entry : expectedDates.entrySet()) {
+                assertEquals(Optional.of(entry.getValue()), utcResolver.resolve(entry.getKey()), entry.getKey());
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void resolve_notADate_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), resolver.resolve("book"));
+        // the second time is answered from the cache
+        assertEquals(Optional.empty(), resolver.resolve("book"));
+    }
+}
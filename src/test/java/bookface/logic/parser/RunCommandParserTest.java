@@ -0,0 +1,57 @@
+package bookface.logic.parser;
+
+import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bookface.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.logic.commands.Command;
+import bookface.logic.commands.RunCommand;
+import bookface.logic.commands.list.ListAllCommand;
+import bookface.logic.commands.list.ListBooksCommand;
+
+public class RunCommandParserTest {
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validFile_returnsRunCommand() throws Exception {
+        Path filePath = testFolder.resolve("commands.txt");
+        Files.write(filePath, Arrays.asList("# nightly", "list all", "", "  list books  "));
+        List<Command> expectedCommands = Arrays.asList(new ListAllCommand(), new ListBooksCommand());
+
+        assertParseSuccess(parser, " " + filePath + " ", new RunCommand(expectedCommands, Arrays.asList(2, 4)));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path filePath = testFolder.resolve("commands.txt");
+        Files.write(filePath, Arrays.asList("list all", "fly away"));
+
+        assertParseFailure(parser, filePath.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(MESSAGE_UNKNOWN_COMMAND, Command.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path filePath = testFolder.resolve("missing.txt");
+
+        assertParseFailure(parser, filePath.toString(), String.format(RunCommandParser.MESSAGE_CANNOT_READ_FILE,
+                filePath, filePath));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,13 +3,14 @@ package bookface.logic.parser.find;
 import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static bookface.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static bookface.logic.parser.CommandParserTestUtil.assertParseSuccess;
-import static bookface.testutil.TestUtil.preparePredicateToCheckPersonForPartialWordIgnoreCase;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import bookface.logic.commands.find.FindUserCommand;
+import bookface.logic.parser.ParserUtil;
 
 public class FindUserArgumentsParserTest {
 
@@ -25,12 +26,20 @@ public class FindUserArgumentsParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindUserCommand expectedFindCommand =
-                new FindUserCommand(
-                        preparePredicateToCheckPersonForPartialWordIgnoreCase(Arrays.asList("Alice", "Bob")));
+                new FindUserCommand(Arrays.asList("Alice", "Bob"));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_resultLimit_returnsRankedFindCommand() {
+        FindUserCommand expectedFindCommand = new FindUserCommand(Arrays.asList("Alice", "Bob"), Optional.of(3));
+        assertParseSuccess(parser, "Alice Bob top/3", expectedFindCommand);
+        assertParseFailure(parser, "Alice Bob top/0", ParserUtil.MESSAGE_INVALID_RESULT_LIMIT);
+        assertParseFailure(parser, "top/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindUserCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import bookface.logic.commands.list.ListBooksCommand;
 import bookface.logic.commands.list.ListCommand;
+import bookface.logic.commands.list.ListDueCommand;
 import bookface.logic.commands.list.ListUsersCommand;
+import bookface.logic.parser.ParserUtil;
 
 
 public class ListCommandParserTest {
@@ -24,6 +26,18 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, ListBooksCommand.COMMAND_WORD, new ListBooksCommand());
     }
 
+    @Test
+    public void parse_validArgs_returnsListDueCommand() {
+        assertParseSuccess(parser, ListDueCommand.COMMAND_WORD + " 7 ", new ListDueCommand(7));
+    }
+
+    @Test
+    public void parse_dueWithoutDays_throwsParseException() {
+        assertParseFailure(parser, ListDueCommand.COMMAND_WORD, String
+                .format(MESSAGE_INVALID_COMMAND_FORMAT, ListDueCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, ListDueCommand.COMMAND_WORD + " 0", ParserUtil.MESSAGE_INVALID_DAY_COUNT);
+    }
+
     @Test
     public void parse_emptyArgs_throwsParseException() {
         assertParseFailure(parser, "  ", String
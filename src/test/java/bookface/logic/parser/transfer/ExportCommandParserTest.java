@@ -0,0 +1,37 @@
+package bookface.logic.parser.transfer;
+
+import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.logic.commands.transfer.ExportBooksCommand;
+import bookface.logic.commands.transfer.ExportCommand;
+import bookface.logic.commands.transfer.ExportLoansCommand;
+import bookface.logic.commands.transfer.ExportUsersCommand;
+import bookface.logic.parser.ParserUtil;
+
+public class ExportCommandParserTest {
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "books books.csv", new ExportBooksCommand(Paths.get("books.csv")));
+        assertParseSuccess(parser, "users users.csv", new ExportUsersCommand(Paths.get("users.csv")));
+        assertParseSuccess(parser, "loans loans.csv", new ExportLoansCommand(Paths.get("loans.csv")));
+    }
+
+    @Test
+    public void parse_unknownSubcommand_throwsParseException() {
+        assertParseFailure(parser, "everything all.csv", String
+                .format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "users", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
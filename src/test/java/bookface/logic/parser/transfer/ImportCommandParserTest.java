@@ -0,0 +1,38 @@
+package bookface.logic.parser.transfer;
+
+import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bookface.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.logic.commands.transfer.ImportBooksCommand;
+import bookface.logic.commands.transfer.ImportCommand;
+import bookface.logic.commands.transfer.ImportLoansCommand;
+import bookface.logic.commands.transfer.ImportUsersCommand;
+import bookface.logic.parser.ParserUtil;
+
+public class ImportCommandParserTest {
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, "books data/shipment.csv",
+                new ImportBooksCommand(Paths.get("data", "shipment.csv")));
+        assertParseSuccess(parser, "  USERS   members.csv ", new ImportUsersCommand(Paths.get("members.csv")));
+        assertParseSuccess(parser, "loans loans.csv", new ImportLoansCommand(Paths.get("loans.csv")));
+    }
+
+    @Test
+    public void parse_unknownSubcommand_throwsParseException() {
+        assertParseFailure(parser, "tags tags.csv", String
+                .format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "books  ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -44,6 +44,19 @@ public class BookFaceTest {
         assertEquals(newData, bookFace);
     }
 
+    @Test
+    public void resetData_withListener_notifiesDataResetOnce() {
+        int[] resetCount = {0};
+        bookFace.addListener(new BookFaceListener() {
+            @Override
+            public void dataReset() {
+                resetCount[0]++;
+            }
+        });
+        bookFace.resetData(getTypicalBookFaceData());
+        assertEquals(1, resetCount[0]);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
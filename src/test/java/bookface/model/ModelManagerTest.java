@@ -3,6 +3,8 @@ package bookface.model;
 import static bookface.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TestUtil.preparePredicateToCheckPersonForPartialWordIgnoreCase;
+import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
+import static bookface.testutil.TypicalBooks.HOW_TO_SPELL;
 import static bookface.testutil.TypicalPersons.ALICE;
 import static bookface.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -12,12 +14,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import bookface.commons.core.GuiSettings;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
 import bookface.testutil.BookFaceBuilder;
+import bookface.testutil.ManualClock;
+import bookface.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +104,128 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void findPersons_afterChanges_findsCurrentNames() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.findPersons(List.of("pauL", "meier"));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        modelManager.findPersons(List.of("pauL", "meier"));
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findBooks_titleOrAuthor_findsMatchingBooks() {
+        modelManager.addBook(HOW_TO_SPELL);
+        modelManager.addBook(GET_MOTIVATED);
+        modelManager.findBooks(List.of("motiv"));
+        assertEquals(List.of(GET_MOTIVATED), modelManager.getFilteredBookList());
+
+        modelManager.findBooks(List.of("JOHNS", "chee"));
+        assertEquals(List.of(HOW_TO_SPELL, GET_MOTIVATED), modelManager.getFilteredBookList());
+    }
+
+    @Test
+    public void findBooks_thenEditAndAddMatchingBooks_listsThem() {
+        modelManager.addBook(HOW_TO_SPELL);
+        modelManager.addBook(GET_MOTIVATED);
+        modelManager.findBooks(List.of("spell"));
+
+        Book editedBook = new BookBuilder(HOW_TO_SPELL).withTitle("How to Spell Better").build();
+        modelManager.setBook(HOW_TO_SPELL, editedBook);
+        Book addedBook = new BookBuilder().withTitle("Spelling Bee").build();
+        modelManager.addBook(addedBook);
+        assertEquals(List.of(editedBook, addedBook), modelManager.getFilteredBookList());
+    }
+
+    @Test
+    public void findBooksWithLimit_thenListAll_restoresOriginalOrder() {
+        modelManager.addBook(HOW_TO_SPELL);
+        modelManager.addBook(GET_MOTIVATED);
+        modelManager.findBooks(List.of("how", "spell", "motivated"), 1);
+        assertEquals(List.of(HOW_TO_SPELL), modelManager.getFilteredBookList());
+
+        modelManager.findBooks(List.of("how", "motivated", "lim"), 2);
+        assertEquals(List.of(GET_MOTIVATED, HOW_TO_SPELL), modelManager.getFilteredBookList());
+
+        modelManager.updateFilteredBookList(Model.PREDICATE_SHOW_ALL_BOOKS);
+        assertEquals(List.of(HOW_TO_SPELL, GET_MOTIVATED), modelManager.getFilteredBookList());
+    }
+
+    @Test
+    public void getOverdueBooks_afterLoansAndReturns_findsCurrentOverdueBooks() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Book overdueBook = new BookBuilder(HOW_TO_SPELL).build();
+        Book longOverdueBook = new BookBuilder(GET_MOTIVATED).build();
+        Book dueTodayBook = new BookBuilder().withTitle("Due Today").build();
+        Book dueSoonBook = new BookBuilder().withTitle("Due Soon").build();
+        Book dueLaterBook = new BookBuilder().withTitle("Due Later").build();
+        modelManager.addPerson(alice);
+        for (Book book : List.of(overdueBook, longOverdueBook, dueTodayBook, dueSoonBook, dueLaterBook)) {
+            modelManager.addBook(book);
+        }
+        modelManager.loan(alice, overdueBook, daysFromNow(-1));
+        modelManager.loan(alice, longOverdueBook, daysFromNow(-10));
+        modelManager.loan(alice, dueTodayBook, daysFromNow(0));
+        modelManager.loan(alice, dueSoonBook, daysFromNow(2));
+        modelManager.loan(alice, dueLaterBook, daysFromNow(20));
+
+        assertEquals(List.of(longOverdueBook, overdueBook), modelManager.getOverdueBooks());
+        assertEquals(2, modelManager.getOverdueBookCount());
+        // a book is not overdue until the day after its return date
+        assertEquals(List.of(dueTodayBook, dueSoonBook), modelManager.getBooksDueWithin(7));
+
+        modelManager.returnLoanedBook(longOverdueBook);
+        assertEquals(List.of(overdueBook), modelManager.getOverdueBooks());
+        assertEquals(1, modelManager.getOverdueBookCount());
+
+        Book editedDueSoonBook = new BookBuilder(dueSoonBook).withTitle("Due Very Soon").build();
+        modelManager.setBook(dueSoonBook, editedDueSoonBook);
+        assertEquals(List.of(dueTodayBook, editedDueSoonBook), modelManager.getBooksDueWithin(7));
+    }
+
+    @Test
+    public void ofDeepCopy_loanInCopy_leavesOriginalUnchanged() {
+        LocalDate today = LocalDate.of(2100, 1, 10);
+        ManualClock clock = new ManualClock(TimeUnit.DAYS.toMillis(today.toEpochDay()));
+        Person alice = new PersonBuilder(ALICE).build();
+        Book book = new BookBuilder(HOW_TO_SPELL).build();
+        modelManager = new ModelManager(new BookFace(), new UserPrefs(), clock);
+        modelManager.addPerson(alice);
+        modelManager.addBook(book);
+
+        ModelManager copy = ModelManager.ofDeepCopy(modelManager.getBookFace(), modelManager.getUserPrefs(),
+                modelManager.getClock());
+        Book copiedBook = copy.getFilteredBookList().get(0);
+        // overdue by the copied model's clock, though not yet by the system clock
+        copy.loan(copy.getFilteredPersonList().get(0), copiedBook, today.minusDays(1));
+        copy.findBooks(List.of("spell"));
+        assertEquals(List.of(copiedBook), copy.getFilteredBookList());
+        assertEquals(List.of(copiedBook), copy.getOverdueBooks());
+
+        assertFalse(book.isLoaned());
+        assertEquals(List.of(), modelManager.getOverdueBooks());
+    }
+
+    @Test
+    public void findPersons_fuzzyKeyword_listsClosestFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.findPersons(List.of("~meir", "~alise"));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.findPersons(List.of("~benson", "~alise"));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, editedAlice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         BookFace bookFace = new BookFaceBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -131,4 +263,8 @@ public class ModelManagerTest {
         differentUserPrefs.setBookFaceFilePath(Paths.get("differentFilePath"));
         assertNotEquals(modelManager, new ModelManager(bookFace, differentUserPrefs));
     }
+
+    private static LocalDate daysFromNow(int days) {
+        return LocalDate.now().plusDays(days);
+    }
 }
@@ -0,0 +1,107 @@
+package bookface.model;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.ManualClock;
+import bookface.testutil.PersonBuilder;
+
+public class OverdueSweeperTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final LocalDate START_DATE = LocalDate.ofEpochDay(20000);
+
+    private final ManualClock clock = new ManualClock(START_DATE.toEpochDay() * DAY);
+    private final ModelManager model = new ModelManager(new BookFace(), new UserPrefs(), clock);
+    private final List<List<Book>> overdueBatches = new ArrayList<>();
+    private final List<Integer> overdueCounts = new ArrayList<>();
+    private final Person alice = new PersonBuilder(ALICE).build();
+    private final Book firstBook = new BookBuilder().withTitle("First Due").build();
+    private final Book secondBook = new BookBuilder().withTitle("Second Due").build();
+    private final Book thirdBook = new BookBuilder().withTitle("Third Due").build();
+    private OverdueSweeper sweeper;
+
+    @BeforeEach
+    public void setUp() {
+        model.addPerson(alice);
+        model.addBook(firstBook);
+        model.addBook(secondBook);
+        model.addBook(thirdBook);
+        model.loan(alice, firstBook, START_DATE);
+        model.loan(alice, secondBook, START_DATE.plusDays(1));
+
+        sweeper = new OverdueSweeper(model, clock, Runnable::run);
+        sweeper.addListener(new OverdueListener() {
+            @Override
+            public void booksBecameOverdue(List<Book> books, LocalDate sweepDate) {
+                overdueBatches.add(books);
+            }
+
+            @Override
+            public void overdueBookCountChanged(int overdueBookCount) {
+                overdueCounts.add(overdueBookCount);
+            }
+        });
+    }
+
+    @Test
+    public void constructor_nullClock_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new OverdueSweeper(model, null, Runnable::run));
+    }
+
+    @Test
+    public void sweep_nothingDue_notifiesNothing() {
+        // a book is not overdue on its return date
+        sweeper.sweep();
+        assertEquals(List.of(), overdueBatches);
+        assertEquals(List.of(), overdueCounts);
+        assertEquals(0, sweeper.getOverdueBookCount());
+    }
+
+    @Test
+    public void sweep_booksBecomeOverdue_notifiesOnlyNewlyOverdueBooks() {
+        clock.advance(DAY);
+        sweeper.sweep();
+        clock.advance(DAY);
+        sweeper.sweep();
+        sweeper.sweep();
+
+        assertEquals(List.of(List.of(firstBook), List.of(secondBook)), overdueBatches);
+        assertEquals(List.of(1, 2), overdueCounts);
+        assertEquals(2, sweeper.getOverdueBookCount());
+    }
+
+    @Test
+    public void sweep_bookReturnedAfterBecomingOverdue_updatesCount() {
+        clock.advance(DAY);
+        sweeper.sweep();
+        model.returnLoanedBook(firstBook);
+
+        assertEquals(List.of(1, 0), overdueCounts);
+        assertEquals(0, sweeper.getOverdueBookCount());
+    }
+
+    @Test
+    public void sweep_bookLoanedAfterLastSweep_notifiesWhenItBecomesOverdue() {
+        clock.advance(DAY / 2);
+        sweeper.sweep();
+        model.loan(alice, thirdBook, START_DATE);
+        clock.advance(DAY / 2);
+        sweeper.sweep();
+
+        assertEquals(List.of(List.of(firstBook, thirdBook)), overdueBatches);
+        assertEquals(List.of(2), overdueCounts);
+    }
+}
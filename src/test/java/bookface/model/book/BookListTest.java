@@ -3,15 +3,20 @@ package bookface.model.book;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
 import static bookface.testutil.TypicalBooks.HOW_TO_SPELL;
+import static bookface.testutil.TypicalBooks.MAKING_A_COMPUTER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import bookface.model.book.exceptions.BookNotFoundException;
 import bookface.model.book.exceptions.DuplicateBookException;
+import bookface.testutil.BookBuilder;
 
 public class BookListTest {
 
@@ -23,6 +28,52 @@ public class BookListTest {
         assertThrows(DuplicateBookException.class, () -> bookList.add(GET_MOTIVATED));
     }
 
+    @Test
+    public void contains_bookWithDifferentTitleCase_returnsTrue() {
+        bookList.add(GET_MOTIVATED);
+        Book upperCaseBook = new BookBuilder(GET_MOTIVATED).withTitle("GET MOTIVATED").build();
+        assertTrue(bookList.contains(upperCaseBook));
+    }
+
+    @Test
+    public void contains_bookWithDifferentTitleCaseInTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // "ISTANBUL".toLowerCase() is "\u0131stanbul" in Turkish, so a locale-dependent hash breaks the positions
+            Book lowerCaseBook = new BookBuilder(GET_MOTIVATED).withTitle("istanbul").build();
+            Book upperCaseBook = new BookBuilder(GET_MOTIVATED).withTitle("ISTANBUL").build();
+            bookList.add(lowerCaseBook);
+            assertEquals(lowerCaseBook.hashCode(), upperCaseBook.hashCode());
+            assertTrue(bookList.contains(upperCaseBook));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void contains_bookWithDifferentAuthor_returnsFalse() {
+        bookList.add(GET_MOTIVATED);
+        Book otherAuthorBook = new BookBuilder(GET_MOTIVATED).withAuthor("Someone Else").build();
+        assertFalse(bookList.contains(otherAuthorBook));
+    }
+
+    @Test
+    public void setBook_afterDeletingEarlierBook_replacesCorrectBook() {
+        bookList.add(GET_MOTIVATED);
+        bookList.add(HOW_TO_SPELL);
+        bookList.add(MAKING_A_COMPUTER);
+        bookList.delete(GET_MOTIVATED);
+        Book editedBook = new BookBuilder().withTitle("Edited Title").withAuthor("Roger Smith").build();
+        bookList.setBook(MAKING_A_COMPUTER, editedBook);
+
+        BookList expectedBookList = new BookList();
+        expectedBookList.setBooks(Arrays.asList(HOW_TO_SPELL, editedBook));
+        assertEquals(expectedBookList, bookList);
+        assertFalse(bookList.contains(MAKING_A_COMPUTER));
+        assertTrue(bookList.contains(editedBook));
+    }
+
     @Test
     public void setBook_nullTargetBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bookList.setBook(null, GET_MOTIVATED));
@@ -14,8 +14,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import bookface.model.book.Book;
 import bookface.model.person.exceptions.DuplicatePersonException;
 import bookface.model.person.exceptions.PersonNotFoundException;
+import bookface.testutil.BookBuilder;
 import bookface.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -161,6 +163,47 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void returnLoanedBook_bookLoanedToPerson_removesLoanFromPerson() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        Book book = new BookBuilder().build();
+        uniquePersonList.add(amy);
+        uniquePersonList.add(bob);
+        uniquePersonList.loan(bob, book);
+
+        uniquePersonList.returnLoanedBook(book);
+        assertFalse(bob.hasBooksOnLoan());
+        assertFalse(amy.hasBooksOnLoan());
+    }
+
+    @Test
+    public void returnLoanedBook_afterEditingLoanee_removesLoanFromEditedPerson() {
+        Person amy = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        uniquePersonList.add(amy);
+        uniquePersonList.loan(amy, book);
+        Person editedAmy = new PersonBuilder(amy).withName("Amy Tan").build();
+        uniquePersonList.setPerson(amy, editedAmy);
+
+        uniquePersonList.returnLoanedBook(book);
+        assertFalse(editedAmy.hasBooksOnLoan());
+    }
+
+    @Test
+    public void remove_earlierPerson_keepsLaterPersonsEditable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(editedBob));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
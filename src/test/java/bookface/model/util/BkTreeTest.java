@@ -0,0 +1,52 @@
+package bookface.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void getDistance() {
+        assertEquals(0, BkTree.getDistance("", ""));
+        assertEquals(3, BkTree.getDistance("", "abc"));
+        assertEquals(3, BkTree.getDistance("kitten", "sitting"));
+        assertEquals(2, BkTree.getDistance("john", "jonh"));
+        assertEquals(1, BkTree.getDistance("tolkien", "tolkiens"));
+    }
+
+    @Test
+    public void add_duplicateWord_returnsFalse() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("book"));
+        assertTrue(tree.add("books"));
+        assertFalse(tree.add("book"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_returnsExactlyTheWordsWithinDistance() {
+        BkTree tree = new BkTree();
+        String[] words = {"book", "books", "boot", "cook", "brook", "look", "bake", "broke", "face", "bookface"};
+        for (String word : words) {
+            tree.add(word);
+        }
+
+        Map<String, Integer> matches = tree.search("book", 1);
+        assertEquals(Map.of("book", 0, "books", 1, "boot", 1, "cook", 1, "brook", 1, "look", 1), matches);
+
+        // the tree finds the same words as comparing the query against every word
+        for (int maxDistance = 0; maxDistance <= 4; maxDistance++) {
+            Map<String, Integer> found = tree.search("brake", maxDistance);
+            for (String word : words) {
+                int distance = BkTree.getDistance("brake", word);
+                assertEquals(distance <= maxDistance, found.containsKey(word), word);
+            }
+        }
+        assertEquals(Map.of(), new BkTree().search("book", 2));
+    }
+}
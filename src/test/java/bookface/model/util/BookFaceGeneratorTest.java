@@ -0,0 +1,93 @@
+package bookface.model.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+
+public class BookFaceGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 11, 1);
+
+    @Test
+    public void constructor_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BookFaceGenerator(1, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BookFaceGenerator(1, 10, -1));
+    }
+
+    @Test
+    public void setLoanRatio_outOfRange_throwsIllegalArgumentException() {
+        BookFaceGenerator generator = new BookFaceGenerator(1, 10, 10);
+        assertThrows(IllegalArgumentException.class, () -> generator.setLoanRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.setOverdueRatio(-0.1));
+    }
+
+    @Test
+    public void generate_sameSeed_sameBookFace() {
+        assertEquals(createGenerator(7, 50, 200).generate(), createGenerator(7, 50, 200).generate());
+        assertNotEquals(createGenerator(7, 50, 200).generate(), createGenerator(8, 50, 200).generate());
+    }
+
+    @Test
+    public void generate_largeCounts_uniqueNamesAndTitles() {
+        // enough persons for names with two middle names, and enough books for titles with volume numbers
+        BookFace bookFace = createGenerator(3, 30000, 40000).generate();
+        assertEquals(30000, bookFace.getPersonList().size());
+        assertEquals(40000, bookFace.getBookList().size());
+    }
+
+    @Test
+    public void generate_ratios_followed() {
+        BookFaceGenerator generator = createGenerator(5, 100, 2000);
+        generator.setLoanRatio(0.25);
+        generator.setOverdueRatio(0.5);
+        generator.setTagCount(3);
+        BookFace bookFace = generator.generate();
+
+        List<Book> loanedBooks = bookFace.getBookList().stream().filter(Book::isLoaned)
+                .collect(Collectors.toList());
+        long overdueCount = loanedBooks.stream().filter(book -> book.getReturnDate().get().isBefore(TODAY)).count();
+        assertEquals(500, loanedBooks.size());
+        assertTrue(overdueCount > 200 && overdueCount < 300, "overdue books: " + overdueCount);
+        assertTrue(bookFace.getPersonList().stream().allMatch(person -> person.getLoanedBooksSet().size() == 5));
+        assertTrue(bookFace.getPersonList().stream().flatMap(person -> person.getTags().stream())
+                .distinct().count() <= 3);
+    }
+
+    @Test
+    public void generate_noPersons_noLoans() {
+        BookFace bookFace = createGenerator(1, 0, 100).generate();
+        assertTrue(bookFace.getBookList().stream().noneMatch(Book::isLoaned));
+    }
+
+    @Test
+    public void getPersonsAndAvailableBooks_sameAsGenerated() {
+        BookFaceGenerator generator = createGenerator(11, 40, 300);
+        BookFace bookFace = generator.generate();
+
+        assertEquals(bookFace.getPersonList(), new ArrayList<>(generator.getPersons()));
+        List<Book> availableBooks = bookFace.getBookList().stream().filter(book -> !book.isLoaned())
+                .collect(Collectors.toList());
+        assertEquals(availableBooks, new ArrayList<>(generator.getAvailableBooks()));
+        assertEquals(new HashSet<>(bookFace.getBookList()), generator.getPersons().stream()
+                .flatMap(person -> person.getLoanedBooksSet().stream())
+                .collect(Collectors.toCollection(() -> new HashSet<>(availableBooks))));
+    }
+
+    private static BookFaceGenerator createGenerator(long seed, int personCount, int bookCount) {
+        BookFaceGenerator generator = new BookFaceGenerator(seed, personCount, bookCount);
+        generator.setToday(TODAY);
+        return generator;
+    }
+}
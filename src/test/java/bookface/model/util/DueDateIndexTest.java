@@ -0,0 +1,79 @@
+package bookface.model.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class DueDateIndexTest {
+
+    private final DueDateIndex<String> index = new DueDateIndex<>();
+
+    @Test
+    public void add_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, 1));
+    }
+
+    @Test
+    public void getDueBefore_listsEarliestDueFirstAndExcludesTime() {
+        index.add("c", 30);
+        index.add("a", 10);
+        index.add("b", 20);
+        index.add("b2", 20);
+
+        assertEquals(List.of("a", "b", "b2"), index.getDueBefore(30));
+        assertEquals(List.of(), index.getDueBefore(10));
+        assertEquals(3, index.countDueBefore(30));
+        assertEquals(0, index.countDueBefore(10));
+    }
+
+    @Test
+    public void getDueBetween_includesFromAndExcludesTo() {
+        index.add("a", 10);
+        index.add("b", 20);
+        index.add("c", 30);
+
+        assertEquals(List.of("b", "c"), index.getDueBetween(20, 31));
+        assertEquals(List.of(), index.getDueBetween(30, 30));
+        assertEquals(List.of(), index.getDueBetween(30, 10));
+    }
+
+    @Test
+    public void add_existingKey_replacesDueTime() {
+        index.add("a", 10);
+        index.add("a", 40);
+
+        assertEquals(List.of(), index.getDueBefore(40));
+        assertEquals(Optional.of(40L), index.getDueTime("a"));
+        assertEquals(Optional.of(40L), index.getEarliestDueTime());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void getNextDueTime_includesTime() {
+        index.add("a", 10);
+        index.add("b", 20);
+
+        assertEquals(Optional.of(10L), index.getNextDueTime(10));
+        assertEquals(Optional.of(20L), index.getNextDueTime(11));
+        assertEquals(Optional.empty(), index.getNextDueTime(21));
+    }
+
+    @Test
+    public void remove_thenClear_forgetsKeys() {
+        index.add("a", 10);
+        index.add("b", 10);
+        index.remove("a");
+        index.remove("missing");
+
+        assertEquals(List.of("b"), index.getDueBefore(11));
+        assertEquals(Optional.empty(), index.getDueTime("a"));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(Optional.empty(), index.getEarliestDueTime());
+    }
+}
@@ -0,0 +1,143 @@
+package bookface.model.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    @Test
+    public void getCandidates_gramLengthKeyword_findsExactMatchesIgnoringCase() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "How to Spell", "Alice Pauline");
+        index.add(2, "Get Motivated");
+
+        assertEquals(Set.of(1), index.getCandidates("SPE"));
+        assertEquals(Set.of(2), index.getCandidates("vat"));
+        assertEquals(Set.of(), index.getCandidates("osp"));
+    }
+
+    @Test
+    public void getCandidates_keywordShorterThanGram_returnsEveryKey() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "How to Spell", "Alice Pauline");
+        index.add(2, "Get Motivated");
+
+        assertEquals(Set.of(1, 2), index.getCandidates("oS"));
+        assertEquals(Set.of(), index.getCandidates(" "));
+        assertFalse(NgramIndex.canNarrowDown("oS"));
+        assertTrue(NgramIndex.canNarrowDown("SPE"));
+    }
+
+    @Test
+    public void getCandidates_longKeyword_containsEveryMatch() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "Making a Computer");
+        index.add(2, "Computing today");
+        index.add(3, "Get Motivated");
+
+        assertEquals(Set.of(1, 2), index.getCandidates("comput"));
+        assertEquals(Set.of(1), index.getCandidates("PUTER"));
+        assertEquals(Set.of(), index.getCandidates("makingA"));
+    }
+
+    @Test
+    public void getCandidates_multipleKeywords_returnsUnion() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "Carl Kurz");
+        index.add(2, "Elle Meyer");
+        index.add(3, "Fiona Kunz");
+
+        assertEquals(Set.of(1, 3), index.getCandidates(List.of("Kurz", "Kunz", "zzz")));
+    }
+
+    @Test
+    public void addAndRemove_replacedAndRemovedTexts_notFound() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "Alice Pauline");
+        index.add(1, "Benson Meier");
+        index.add(2, "Daniel Meier");
+
+        assertEquals(Set.of(), index.getCandidates("alice"));
+        assertEquals(Set.of(1, 2), index.getCandidates("meier"));
+
+        index.remove(2);
+        assertEquals(Set.of(1), index.getCandidates("meier"));
+        assertEquals(1, index.size());
+
+        index.clear();
+        assertEquals(Set.of(), index.getCandidates("meier"));
+    }
+
+    @Test
+    public void getBestMatches_rankedByRelevance_keepsOnlyBestMatches() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "The Art of Computer Programming", "Donald Knuth");
+        index.add(2, "Computer Networks", "Andrew Tanenbaum");
+        index.add(3, "Computers and Computing", "Computer Society");
+        index.add(4, "Structure and Interpretation", "Harold Abelson");
+
+        // more words that match, and fewer words that do not, rank higher
+        assertEquals(List.of(3, 2, 1), index.getBestMatches(List.of("comput"), 5));
+        assertEquals(List.of(3, 2), index.getBestMatches(List.of("comput"), 2));
+        // a rarer keyword outweighs a common one
+        assertEquals(List.of(4, 3), index.getBestMatches(List.of("comput", "abelson"), 2));
+        assertEquals(List.of(), index.getBestMatches(List.of("missing"), 2));
+    }
+
+    @Test
+    public void getBestMatches_equalScores_orderedByWhenAdded() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(2, "Elle Meyer");
+        index.add(1, "Benson Meyer");
+        index.add(3, "Daniel Meyer");
+        index.add(2, "Elle Meyer");
+
+        assertEquals(List.of(1, 3), index.getBestMatches(List.of("meyer"), 2));
+    }
+
+    @Test
+    public void getBestMatches_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NgramIndex<Integer>().getBestMatches(List.of("a"), 0));
+    }
+
+    @Test
+    public void getClosestMatches_fuzzyKeywords_rankedByDistance() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "John Sim");
+        index.add(2, "Jon Tan");
+        index.add(3, "Johnny Goh");
+        index.add(4, "Joan Lee");
+
+        assertEquals(List.of(1, 2, 4), index.getClosestMatches(List.of("~jonn"), 5));
+        assertEquals(List.of(3), index.getClosestMatches(List.of("~JOHNNIE"), 5));
+        // short keywords must match exactly, and plain keywords match at a distance of 0
+        assertEquals(List.of(2), index.getClosestMatches(List.of("~tan"), 5));
+        assertEquals(List.of(3, 1, 2), index.getClosestMatches(List.of("goh", "~jonn"), 3));
+        assertEquals(List.of(), index.getClosestMatches(List.of("~"), 5));
+    }
+
+    @Test
+    public void getClosestMatches_removedWords_notFound() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        index.add(1, "Programming Pearls");
+        index.add(2, "Programming Rust");
+        index.remove(1);
+
+        assertEquals(List.of(2), index.getClosestMatches(List.of("~programing", "~perls"), 5));
+        index.add(2, "Pearls of Wisdom");
+        assertEquals(List.of(2), index.getClosestMatches(List.of("~perls"), 5));
+        assertEquals(List.of(), index.getClosestMatches(List.of("~programing"), 5));
+    }
+
+    @Test
+    public void getCandidates_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NgramIndex<Integer>().getCandidates((String) null));
+    }
+}
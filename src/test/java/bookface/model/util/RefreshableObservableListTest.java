@@ -0,0 +1,123 @@
+package bookface.model.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class RefreshableObservableListTest {
+
+    private final RefreshableObservableList<String> list = new RefreshableObservableList<>(this::indexOf);
+    private final List<List<Integer>> updatedIndexesPerChange = new ArrayList<>();
+    private int structuralChangeCount = 0;
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(Arrays.asList("a", "b", "c", "d"));
+        list.addListener((ListChangeListener<String>) change -> {
+            List<Integer> updatedIndexes = new ArrayList<>();
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        updatedIndexes.add(i);
+                    }
+                } else {
+                    structuralChangeCount++;
+                }
+            }
+            updatedIndexesPerChange.add(updatedIndexes);
+        });
+    }
+
+    @Test
+    public void refresh_outsideBatch_notifiesUpdateImmediately() {
+        list.refresh(1);
+        assertEquals(List.of(List.of(1)), updatedIndexesPerChange);
+        assertEquals(0, structuralChangeCount);
+    }
+
+    @Test
+    public void refresh_insideBatch_notifiesOnceAtEndOfBatch() {
+        list.beginBatch();
+        list.refresh(0);
+        list.refresh(2);
+        list.refresh(0);
+        assertTrue(updatedIndexesPerChange.isEmpty());
+
+        list.endBatch();
+        assertEquals(1, updatedIndexesPerChange.size());
+        assertEquals(List.of(0, 2), sorted(updatedIndexesPerChange.get(0)));
+    }
+
+    @Test
+    public void endBatch_nestedBatch_notifiesAtEndOfOutermostBatch() {
+        list.beginBatch();
+        list.beginBatch();
+        list.refresh(3);
+        list.endBatch();
+        assertTrue(updatedIndexesPerChange.isEmpty());
+
+        list.endBatch();
+        assertEquals(List.of(List.of(3)), updatedIndexesPerChange);
+    }
+
+    @Test
+    public void endBatch_elementMovedOrRemovedInBatch_notifiesCurrentPositionOnly() {
+        list.beginBatch();
+        list.refresh(2); // "c"
+        list.refresh(1); // "b"
+        list.remove(0);
+        list.remove("b");
+
+        list.endBatch();
+        assertEquals(2, structuralChangeCount);
+        // "c" moved from 2 to 0 and "b" is gone
+        assertEquals(List.of(0), updatedIndexesPerChange.get(updatedIndexesPerChange.size() - 1));
+    }
+
+    @Test
+    public void endBatch_noRefreshes_doesNotNotify() {
+        list.beginBatch();
+        list.endBatch();
+        assertTrue(updatedIndexesPerChange.isEmpty());
+    }
+
+    @Test
+    public void endBatch_withoutBeginBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    @Test
+    public void setAll_replacesAllElementsInOneChange() {
+        list.setAll(Arrays.asList("x", "y"));
+        assertEquals(Arrays.asList("x", "y"), list);
+        assertEquals(1, updatedIndexesPerChange.size());
+        assertFalse(list.contains("a"));
+    }
+
+    @Test
+    public void clear_removesAllElements() {
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(1, structuralChangeCount);
+    }
+
+    private int indexOf(String element) {
+        return list.indexOf(element);
+    }
+
+    private static List<Integer> sorted(List<Integer> indexes) {
+        List<Integer> sortedIndexes = new ArrayList<>(indexes);
+        sortedIndexes.sort(null);
+        return sortedIndexes;
+    }
+}
@@ -0,0 +1,65 @@
+package bookface.model.util;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
+import static bookface.testutil.TypicalBooks.HOW_TO_SPELL;
+import static bookface.testutil.TypicalPersons.ALICE;
+import static bookface.testutil.TypicalPersons.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class UniquenessValidatorTest {
+
+    @Test
+    public void constructor_nullIdentityKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UniquenessValidator<Book>(null));
+    }
+
+    @Test
+    public void addAll_uniqueBooks_isUnique() {
+        UniquenessValidator<Book> validator = new UniquenessValidator<Book>(Function.identity())
+                .addAll(Arrays.asList(GET_MOTIVATED, HOW_TO_SPELL));
+        assertTrue(validator.isUnique());
+        assertTrue(validator.getDuplicates().isEmpty());
+    }
+
+    @Test
+    public void addAll_booksDifferingOnlyInTitleCase_reportsDuplicate() {
+        Book upperCaseBook = new BookBuilder(GET_MOTIVATED).withTitle("GET MOTIVATED").build();
+        UniquenessValidator<Book> validator = new UniquenessValidator<Book>(Function.identity())
+                .addAll(Arrays.asList(GET_MOTIVATED, HOW_TO_SPELL, upperCaseBook));
+        assertFalse(validator.isUnique());
+        assertEquals(1, validator.getDuplicates().size());
+        assertEquals(2, validator.getDuplicates().get(0).getPosition());
+        assertEquals(0, validator.getDuplicates().get(0).getFirstPosition());
+    }
+
+    @Test
+    public void add_personsWithSameName_reportsEveryDuplicate() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        UniquenessValidator<Person> validator = new UniquenessValidator<>(Person::getName);
+        assertTrue(validator.add(ALICE));
+        assertTrue(validator.add(BOB));
+        assertFalse(validator.add(editedAlice));
+        assertFalse(validator.add(BOB));
+
+        List<UniquenessValidator.Duplicate> duplicates = validator.getDuplicates();
+        assertEquals(2, duplicates.size());
+        assertEquals(2, duplicates.get(0).getPosition());
+        assertEquals(0, duplicates.get(0).getFirstPosition());
+        assertEquals(3, duplicates.get(1).getPosition());
+        assertEquals(1, duplicates.get(1).getFirstPosition());
+    }
+}
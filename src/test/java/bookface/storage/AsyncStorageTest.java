@@ -0,0 +1,137 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.ALICE;
+import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveBookFace_thenRead_returnsSavedData() throws Exception {
+        AsyncStorage storage = createAsyncStorage(new JsonBookFaceStorage(testFolder.resolve("bookface.json")));
+        BookFace original = getTypicalBookFaceData();
+        storage.saveBookFace(original);
+
+        assertEquals(original, new BookFace(storage.readBookFace().get()));
+    }
+
+    @Test
+    public void saveBookFace_burstWhileWriting_coalescesIntoOneWrite() throws Exception {
+        BlockingCountingStorage bookFaceStorage = new BlockingCountingStorage(testFolder.resolve("bookface.json"));
+        AsyncStorage storage = createAsyncStorage(bookFaceStorage);
+        BookFace bookFace = new BookFace();
+
+        storage.saveBookFace(bookFace);
+        bookFaceStorage.writeStarted.await();
+        bookFace.addPerson(ALICE);
+        storage.saveBookFace(bookFace);
+        storage.saveBookFace(bookFace);
+        storage.saveBookFace(bookFace);
+        bookFaceStorage.writeAllowed.countDown();
+        storage.flush();
+
+        assertEquals(2, bookFaceStorage.saveCount);
+        assertEquals(bookFace, new BookFace(storage.readBookFace().get()));
+    }
+
+    @Test
+    public void flush_backgroundSaveFailed_throwsIoException() throws Exception {
+        AsyncStorage storage = createAsyncStorage(new JsonBookFaceStorage(testFolder.resolve("bookface.json")) {
+            @Override
+            public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        });
+        storage.saveBookFace(new BookFace());
+
+        assertThrows(IOException.class, "disk full", storage::flush);
+        storage.flush();
+    }
+
+    @Test
+    public void saveBookFace_afterBackgroundSaveFailed_notifiesListenersAndSavesLaterData() throws Exception {
+        BlockingCountingStorage bookFaceStorage = new BlockingCountingStorage(testFolder.resolve("bookface.json")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+                super.saveBookFace(bookFace, filePath);
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("disk full");
+                }
+            }
+        };
+        AsyncStorage storage = createAsyncStorage(bookFaceStorage);
+        List<String> outcomes = new CopyOnWriteArrayList<>();
+        storage.addSaveListener(new SaveListener() {
+            @Override
+            public void saveFailed(IOException exception) {
+                outcomes.add(exception.getMessage());
+            }
+
+            @Override
+            public void saveSucceeded() {
+                outcomes.add("saved");
+            }
+        });
+        BookFace bookFace = new BookFace();
+
+        storage.saveBookFace(bookFace);
+        bookFaceStorage.writeStarted.await();
+        bookFace.addPerson(ALICE);
+        // the failure of the save being written is not reported by the saves that follow it
+        storage.saveBookFace(bookFace);
+        bookFaceStorage.writeAllowed.countDown();
+        storage.flush();
+
+        assertEquals(List.of("disk full", "saved"), outcomes);
+        assertEquals(bookFace, new BookFace(storage.readBookFace().get()));
+    }
+
+    private AsyncStorage createAsyncStorage(BookFaceStorage bookFaceStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new AsyncStorage(new StorageManager(bookFaceStorage, userPrefsStorage));
+    }
+
+    /**
+     * A stub class that counts saves, and holds up the first one until it is allowed to continue.
+     */
+    private static class BlockingCountingStorage extends JsonBookFaceStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writeAllowed = new CountDownLatch(1);
+        private volatile int saveCount = 0;
+
+        private BlockingCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+            saveCount++;
+            writeStarted.countDown();
+            try {
+                writeAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            super.saveBookFace(bookFace, filePath);
+        }
+    }
+}
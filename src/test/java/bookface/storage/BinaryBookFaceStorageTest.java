@@ -0,0 +1,84 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.core.DataFormat;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+public class BinaryBookFaceStorageTest {
+    private static final Path JSON_DATA_FOLDER = Paths.get("src", "test", "data", "JsonBookFaceStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveBookFace_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.bin");
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(filePath);
+        BookFace original = getAllTypicalBookFaceData();
+
+        storage.saveBookFace(original);
+        ReadOnlyBookFace readBack = storage.readBookFace().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getBookList(), readBack.getBookList());
+        assertTrue(BinaryBookFaceCodec.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readBookFace_jsonFile_detectsFormat() throws Exception {
+        Path jsonFilePath = JSON_DATA_FOLDER.resolve("loanedBookBookFace.json");
+        ReadOnlyBookFace expected = new JsonBookFaceStorage(jsonFilePath).readBookFace().get();
+
+        assertEquals(expected.getPersonList(), new BinaryBookFaceStorage(jsonFilePath).readBookFace().get()
+                .getPersonList());
+    }
+
+    @Test
+    public void convert_jsonWithLoans_preservesLoans() throws Exception {
+        Path filePath = testFolder.resolve("converted.bin");
+        BookFaceFileConverter.convert(JSON_DATA_FOLDER.resolve("loanedBookBookFace.json"), filePath,
+                DataFormat.BINARY);
+        assertTrue(BinaryBookFaceCodec.isBinaryFile(filePath));
+
+        // read back through the json storage, which detects the binary format too
+        ReadOnlyBookFace readBack = new JsonBookFaceStorage(filePath).readBookFace().get();
+        Person alice = readBack.getPersonList().get(0);
+        Book loanedBook = readBack.getBookList().get(0);
+        assertTrue(loanedBook.isLoaned());
+        assertEquals(alice, loanedBook.getLoanee().get());
+        assertEquals("Return by: 2022-10-30", loanedBook.getReturnDateString().get());
+        assertTrue(alice.hasPersonLoanedThisBook(loanedBook));
+        assertFalse(readBack.getBookList().get(1).isLoaned());
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> BookFaceFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("target.bin"), DataFormat.BINARY));
+    }
+
+    @Test
+    public void readBookFace_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.bin");
+        byte[] data = BinaryBookFaceCodec.encode(getAllTypicalBookFaceData());
+        Files.write(filePath, Arrays.copyOf(data, data.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryBookFaceStorage(filePath, 0).readBookFace());
+    }
+}
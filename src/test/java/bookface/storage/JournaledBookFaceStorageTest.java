@@ -0,0 +1,177 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class JournaledBookFaceStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private Person alice;
+    private Person bob;
+    private Book spelling;
+    private Book computing;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("bookface.json");
+        journalFilePath = JournaledBookFaceStorage.getJournalFilePath(filePath);
+        alice = new PersonBuilder().withName("Alice Pauline").build();
+        bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        spelling = new BookBuilder().withTitle("How to Spell").build();
+        computing = new BookBuilder().withTitle("Making a Computer").withAuthor("Ada Lovelace").build();
+    }
+
+    @Test
+    public void saveBookFace_changesAfterFirstSave_appendsToJournal() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+
+        bookFace.addPerson(alice);
+        bookFace.addBook(spelling);
+        storage.saveBookFace(bookFace);
+        bookFace.loan(alice, spelling, TYPICAL_DATE);
+        storage.saveBookFace(bookFace);
+
+        // a header and an entry for each change
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(new BookFace(), new JsonBookFaceStorage(filePath).readBookFace().get());
+        assertSameData(bookFace, storage.readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_journaledEditsAndReturns_matchesSavedData() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        bookFace.addPerson(alice);
+        bookFace.addPerson(bob);
+        bookFace.addBook(spelling);
+        bookFace.addBook(computing);
+        storage.saveBookFace(bookFace);
+
+        bookFace.loan(alice, spelling, TYPICAL_DATE);
+        bookFace.loan(alice, computing, TYPICAL_DATE);
+        Person editedAlice = new PersonBuilder(alice).withName("Alice Tan").build();
+        editedAlice.getLoanedBooksSet().addAll(alice.getLoanedBooksSet());
+        bookFace.setPerson(alice, editedAlice);
+        Book editedSpelling = new BookBuilder().withTitle("How to Spell Better").build();
+        bookFace.setBook(spelling, editedSpelling);
+        bookFace.returnLoanedBook(computing);
+        bookFace.removePerson(bob);
+        storage.saveBookFace(bookFace);
+
+        ReadOnlyBookFace read = storage.readBookFace().get();
+        assertSameData(bookFace, read);
+        Book readBook = read.getBookList().get(0);
+        assertTrue(readBook.isLoaned());
+        assertEquals(editedAlice.getName(), readBook.getLoanee().get().getName());
+    }
+
+    @Test
+    public void saveBookFace_thresholdExceeded_compactsJournal() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath), 2);
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+
+        bookFace.addPerson(alice);
+        bookFace.addPerson(bob);
+        storage.saveBookFace(bookFace);
+        assertTrue(Files.exists(journalFilePath));
+
+        bookFace.addBook(spelling);
+        storage.saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(bookFace, new JsonBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void saveBookFace_afterReset_writesSnapshot() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(alice);
+        storage.saveBookFace(bookFace);
+        assertTrue(Files.exists(journalFilePath));
+
+        bookFace.resetData(new BookFace());
+        storage.saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(new BookFace(), storage.readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_incompleteLastEntry_replaysEarlierEntries() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(alice);
+        storage.saveBookFace(bookFace);
+        FileUtil.appendToFile(journalFilePath, "{\"op\":\"ADD_PERS");
+
+        assertSameData(bookFace, storage.readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_journalAlreadyInSnapshot_usesSnapshot() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(alice);
+        storage.saveBookFace(bookFace);
+
+        // a compaction that stopped after writing the snapshot but before deleting the journal
+        List<String> journal = Files.readAllLines(journalFilePath);
+        new JsonBookFaceStorage(filePath).saveBookFace(bookFace);
+        Files.write(journalFilePath, journal);
+
+        assertSameData(bookFace, storage.readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_journalDoesNotApplyToItsSnapshot_throwsAndKeepsJournal() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(new JsonBookFaceStorage(filePath));
+        BookFace bookFace = new BookFace();
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(alice);
+        bookFace.removePerson(alice);
+        storage.saveBookFace(bookFace);
+        List<String> journal = Files.readAllLines(journalFilePath);
+        // the deletion no longer applies once the addition is gone
+        Files.write(journalFilePath, List.of(journal.get(0), journal.get(2)));
+
+        assertThrows(DataConversionException.class, () -> storage.readBookFace());
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(List.of(journal.get(0), journal.get(2)),
+                Files.readAllLines(JournaledBookFaceStorage.getRejectedJournalFilePath(filePath)));
+    }
+
+    private void assertSameData(ReadOnlyBookFace expected, ReadOnlyBookFace actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getBookList(), actual.getBookList());
+    }
+}
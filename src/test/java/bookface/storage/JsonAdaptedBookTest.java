@@ -1,5 +1,6 @@
 package bookface.storage;
 
+import static bookface.storage.JsonAdaptedBook.INVALID_RETURN_DATE;
 import static bookface.storage.JsonAdaptedBook.INVALID_RETURN_DATE_UNLOANED;
 import static bookface.storage.JsonAdaptedBook.MISSING_BOOK_FIELD_MESSAGE_FORMAT;
 import static bookface.testutil.Assert.assertThrows;
@@ -83,7 +84,8 @@ public class JsonAdaptedBookTest {
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedBook book = new JsonAdaptedBook(VALID_TITLE, VALID_AUTHOR, INVALID_DATE_STRING, true);
-        assertThrows(ParseException.class, "Unparseable date: \"2022-2020202-09\"", book::toModelType);
+        assertThrows(ParseException.class, String.format(INVALID_RETURN_DATE, INVALID_DATE_STRING),
+                book::toModelType);
     }
 
     // test for null date
@@ -7,6 +7,7 @@ import static bookface.testutil.TypicalPersons.IDA;
 import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -16,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
 import bookface.model.BookFace;
 import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
 
 public class JsonBookFaceStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonBookFaceStorageTest");
@@ -30,6 +34,16 @@ public class JsonBookFaceStorageTest {
         assertThrows(NullPointerException.class, () -> readBookFace(null));
     }
 
+    @Test
+    public void warmUp_nullBookFace_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonBookFaceStorage.warmUp(null));
+    }
+
+    @Test
+    public void warmUp_typicalBookFace_success() throws Exception {
+        JsonBookFaceStorage.warmUp(getTypicalBookFaceData());
+    }
+
     private java.util.Optional<ReadOnlyBookFace> readBookFace(String filePath) throws Exception {
         return new JsonBookFaceStorage(Paths.get(filePath)).readBookFace(addToTestDataPathIfNotNull(filePath));
     }
@@ -60,6 +74,25 @@ public class JsonBookFaceStorageTest {
         assertThrows(DataConversionException.class, () -> readBookFace("invalidAndValidPersonBookFace.json"));
     }
 
+    @Test
+    public void readBookFace_duplicateBookBookFace_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readBookFace("duplicateBookBookFace.json"));
+    }
+
+    @Test
+    public void readBookFace_loanedBookWithUnknownFields_success() throws Exception {
+        ReadOnlyBookFace readBack = readBookFace("loanedBookBookFace.json").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals(2, readBack.getBookList().size());
+
+        Person alice = readBack.getPersonList().get(0);
+        Book loanedBook = readBack.getBookList().get(0);
+        assertTrue(loanedBook.isLoaned());
+        assertEquals(alice, loanedBook.getLoanee().get());
+        assertTrue(alice.hasPersonLoanedThisBook(loanedBook));
+        assertFalse(readBack.getBookList().get(1).isLoaned());
+    }
+
     @Test
     public void readAndSaveBookFace_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempBookFace.json");
@@ -86,6 +119,34 @@ public class JsonBookFaceStorageTest {
 
     }
 
+    @Test
+    public void readBookFace_corruptedFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        JsonBookFaceStorage jsonBookFaceStorage = new JsonBookFaceStorage(filePath, 2);
+        BookFace original = getTypicalBookFaceData();
+        jsonBookFaceStorage.saveBookFace(original);
+        original.addPerson(HOON);
+        jsonBookFaceStorage.saveBookFace(new BookFace(original));
+        jsonBookFaceStorage.saveBookFace(new BookFace());
+
+        // a crash that truncated the data file, and an unreadable newest backup
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ {");
+        FileUtil.writeToFile(FileUtil.getBackupPath(filePath, 1), "not json");
+
+        assertEquals(getTypicalBookFaceData(), new BookFace(jsonBookFaceStorage.readBookFace().get()));
+    }
+
+    @Test
+    public void readBookFace_corruptedFileWithoutBackups_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        JsonBookFaceStorage jsonBookFaceStorage = new JsonBookFaceStorage(filePath, 0);
+        jsonBookFaceStorage.saveBookFace(getTypicalBookFaceData());
+        jsonBookFaceStorage.saveBookFace(getTypicalBookFaceData());
+        FileUtil.writeToFile(filePath, "not json");
+
+        assertThrows(DataConversionException.class, () -> jsonBookFaceStorage.readBookFace());
+    }
+
     @Test
     public void saveBookFace_nullBookFace_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveBookFace(null, "SomeFile.json"));
@@ -0,0 +1,60 @@
+package bookface.storage;
+
+import static bookface.testutil.TypicalPersons.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class OverdueReportWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void booksBecameOverdue_appendsRowsAfterOneHeader() throws Exception {
+        Path reportPath = testFolder.resolve("overdue.csv");
+        OverdueReportWriter writer = new OverdueReportWriter(reportPath, Runnable::run);
+        Person alice = new PersonBuilder(ALICE).build();
+        Book loanedBook = new BookBuilder().withTitle("Loaned, Once").build();
+        Book returnedBook = new BookBuilder().withTitle("Returned").build();
+        loanedBook.loanTo(alice, LocalDate.of(2022, 10, 25));
+
+        writer.booksBecameOverdue(List.of(loanedBook, returnedBook), LocalDate.of(2022, 10, 26));
+        writer.booksBecameOverdue(List.of(loanedBook), LocalDate.of(2022, 10, 26));
+
+        String row = ALICE.getName().fullName + ",\"Loaned, Once\"," + loanedBook.getAuthor().bookAuthor
+                + ",2022-10-25,2022-10-26";
+        assertEquals(List.of("name,title,author,due date,overdue since", row, row),
+                Files.readAllLines(reportPath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void booksBecameOverdue_bookReturnedBeforeWrite_writesRowAsReported() throws Exception {
+        Path reportPath = testFolder.resolve("overdue.csv");
+        List<Runnable> pendingWrites = new ArrayList<>();
+        OverdueReportWriter writer = new OverdueReportWriter(reportPath, pendingWrites::add);
+        Book book = new BookBuilder().withTitle("Returned Later").build();
+        book.loanTo(new PersonBuilder(ALICE).build(), LocalDate.of(2022, 10, 25));
+
+        writer.booksBecameOverdue(List.of(book), LocalDate.of(2022, 10, 26));
+        book.markBookAsReturned();
+        pendingWrites.forEach(Runnable::run);
+
+        assertEquals(List.of("name,title,author,due date,overdue since", ALICE.getName().fullName
+                + ",Returned Later," + book.getAuthor().bookAuthor + ",2022-10-25,2022-10-26"),
+                Files.readAllLines(reportPath, StandardCharsets.UTF_8));
+    }
+}
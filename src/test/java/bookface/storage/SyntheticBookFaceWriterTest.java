@@ -0,0 +1,42 @@
+package bookface.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.core.DataFormat;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.util.BookFaceGenerator;
+
+public class SyntheticBookFaceWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_json_readsBackGeneratedBookFace() throws Exception {
+        assertWritesGeneratedBookFace(DataFormat.JSON, testFolder.resolve("generated.json"));
+    }
+
+    @Test
+    public void write_binary_readsBackGeneratedBookFace() throws Exception {
+        assertWritesGeneratedBookFace(DataFormat.BINARY, testFolder.resolve("generated.bin"));
+    }
+
+    private void assertWritesGeneratedBookFace(DataFormat format, Path filePath) throws Exception {
+        BookFaceGenerator generator = new BookFaceGenerator(9, 30, 500);
+        generator.setLoanRatio(0.3);
+        SyntheticBookFaceWriter.write(generator, filePath, format);
+
+        BookFace expected = generator.generate();
+        ReadOnlyBookFace readBack = BookFaceFileReader.readFile(filePath).get();
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        // books on loan are read back with their loanees, so only their set is the same
+        assertEquals(new HashSet<>(expected.getBookList()), new HashSet<>(readBack.getBookList()));
+    }
+}
@@ -2,7 +2,7 @@ package bookface.testutil;
 
 import static bookface.testutil.TypicalDates.TYPICAL_DATE;
 
-import java.util.Date;
+import java.time.LocalDate;
 
 import bookface.model.book.Author;
 import bookface.model.book.Book;
@@ -20,7 +20,7 @@ public class BookBuilder {
     private Title title;
     private Author author;
 
-    private Date returnDate;
+    private LocalDate returnDate;
     /**
      * Creates a {@code BookBuilder} with the default details.
      */
@@ -0,0 +1,45 @@
+package bookface.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} that only moves when told to, so that tests of time-dependent code are deterministic.
+ */
+public class ManualClock extends Clock {
+
+    private long millis;
+
+    public ManualClock(long millis) {
+        this.millis = millis;
+    }
+
+    /**
+     * Moves the clock forward by {@code deltaMillis} milliseconds.
+     */
+    public void advance(long deltaMillis) {
+        millis += deltaMillis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("A ManualClock is always in UTC.");
+    }
+}
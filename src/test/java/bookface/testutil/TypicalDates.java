@@ -1,23 +1,14 @@
 package bookface.testutil;
 
-import static bookface.commons.util.Date.DATE_FORMAT;
+import java.time.LocalDate;
 
-import java.text.ParseException;
-import java.util.Date;
+import bookface.commons.util.DateUtil;
 
 /**
- * A utility class containing a typical date {@code Date} object to be used in tests.
+ * A utility class containing a typical date {@code LocalDate} object to be used in tests.
  */
 public class TypicalDates {
     public static final String INVALID_DATE_STRING = "2022-2020202-09";
     public static final String TYPICAL_DATE_STRING = "2022-08-08";
-    public static final Date TYPICAL_DATE;
-
-    static {
-        try {
-            TYPICAL_DATE = DATE_FORMAT.parse(TYPICAL_DATE_STRING);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    public static final LocalDate TYPICAL_DATE = DateUtil.parse(TYPICAL_DATE_STRING);
 }